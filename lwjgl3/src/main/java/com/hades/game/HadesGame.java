@@ -7,6 +7,8 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.hades.game.constants.RunState;
+import com.hades.game.logic.ai.MoveWeights;
+import com.hades.game.logic.ai.OpeningBook;
 import com.hades.game.screens.MenuScreen;
 import com.hades.game.utils.FontFactory;
 import com.hades.game.utils.AudioManager; // 추가
@@ -27,6 +29,12 @@ public class HadesGame extends Game {
     // 게임 진행 상태 데이터
     public RunState runState = new RunState();
 
+    // AI 후보 수 휴리스틱 가중치 (WeightTuner 가 만든 data/ai_weights.json, 없으면 기본값)
+    public MoveWeights aiWeights = new MoveWeights();
+
+    // AI 오프닝 북 (OpeningBookBuilder 가 만든 data/opening_book.bin, 없으면 빈 북)
+    public OpeningBook openingBook = OpeningBook.EMPTY;
+
     @Override
     public void create() {
         batch = new SpriteBatch();
@@ -57,6 +65,10 @@ public class HadesGame extends Game {
         // 오디오 매니저 초기화
         audioManager = new AudioManager(this);
 
+        // AI 가중치 로드
+        aiWeights = MoveWeights.loadInternal();
+        openingBook = OpeningBook.loadInternal();
+
         // 첫 화면 설정
         this.setScreen(new MenuScreen(this));
     }
@@ -0,0 +1,34 @@
+package com.hades.game.constants;
+
+// Chess Olympus: HADES vs ZEUS - AI 난이도 단계
+// 난이도는 점수 배율이 아니라 AI 가 실제로 얼마나 깊이/오래 수를 읽는지와, 최선 수 대신 실수를 섞는 확률로 정해집니다.
+// 메뉴에서 고르고 RunState 에 함께 저장됩니다.
+public enum Difficulty {
+    //          표시 이름    최대 깊이  시간 예산(ms)  실수 확률
+    EASY("쉬움", 2, 50, 0.35f),
+    NORMAL("보통", 6, 200, 0.10f),
+    HARD("어려움", 12, 600, 0f),
+    OLYMPIAN("올림포스", 31, 1500, 0f);
+
+    public final String label;
+    public final int maxDepth;
+    public final long budgetMillis;
+    public final float noise; // 탐색 결과 대신 상위 후보 중 다른 수를 고를 확률
+
+    Difficulty(String label, int maxDepth, long budgetMillis, float noise) {
+        this.label = label;
+        this.maxDepth = maxDepth;
+        this.budgetMillis = budgetMillis;
+        this.noise = noise;
+    }
+
+    public Difficulty next() {
+        Difficulty[] all = values();
+        return all[(ordinal() + 1) % all.length];
+    }
+
+    public Difficulty previous() {
+        Difficulty[] all = values();
+        return all[(ordinal() + all.length - 1) % all.length];
+    }
+}
@@ -17,6 +17,9 @@ public class RunState implements Serializable {
     public int olympusSeals = 0;
     public boolean isGameOver = false;
 
+    // AI 난이도: 메뉴에서 고른 값이며 회차를 새로 시작해도 유지됩니다.
+    public Difficulty difficulty = Difficulty.NORMAL;
+
     // 회차별 기록 (현재 플레이 중인 기록)
     public Map<Integer, Float> stageBestTimes = new HashMap<>();
 
@@ -47,6 +50,10 @@ public class RunState implements Serializable {
         if (stageBestTimes == null) {
             stageBestTimes = new HashMap<>();
         }
+        // 난이도 항목이 없던 이전 세이브 파일 대비
+        if (difficulty == null) {
+            difficulty = Difficulty.NORMAL;
+        }
     }
 
     // 세이브 파일로부터 로드된 데이터를 합산할 때 사용할 안전한 총점 계산 메서드
@@ -1,13 +1,28 @@
 package com.hades.game.constants;
 
 import com.badlogic.gdx.utils.Array;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+// 권능은 등록할 때 정수 id 와 효과 종류(Effect), 특수 수치(추가 피해 / 보호막 비율), 소유 진영을 한 번 정해 둡니다.
+// 전투 규칙(SkillManager, BattleRoster)은 이름 문자열 대신 이 값으로 분기합니다.
+// 등록이 끝나면 id 순서의 불변 표(table)를 만들어 두고, 조회는 새 객체를 만들지 않습니다. (등록되지 않은 이름은 공유 BASIC 항목)
+// 이름 -> id 는 유닛 생성 / 권능 선택 때 idOf 로 한 번만 바꾸고, 전투 중 조회는 byId 로 표를 바로 읽습니다.
 public class SkillData {
     public enum Shape { MANHATTAN, LINE, CROSS, SQUARE, GLOBAL }
 
+    // [설명] 권능 실행 방식 (SkillManager.executeSkill 의 분기)
+    public enum Effect { AREA, LINE, HEAL, JUDGMENT }
+
+    public static final String BASIC_ATTACK = "기본 공격";
+    public static final int BASIC_ATTACK_ID = 0;
+
     public static class Skill {
+        public final int id;
+        public final Team owner; // 영웅 권능을 가진 진영 (기본 공격은 null)
+        public final Effect effect;
+        public final int bonusDamage;   // 피격 대상마다 더하는 고정 피해 (여왕의 권위)
+        public final float shieldRatio; // 시전 시 최대 체력 대비 보호막 (전략적 방벽)
         public final String name;
         public final String description; // [추가] UI에서 출력하기 위해 반드시 필요합니다.
         public final float power;
@@ -15,7 +30,13 @@ public class SkillData {
         public final boolean isAoE;
         public final Shape shape;
 
-        public Skill(String name, String description, float power, int range, boolean isAoE, Shape shape) {
+        public Skill(int id, Team owner, Effect effect, int bonusDamage, float shieldRatio,
+                     String name, String description, float power, int range, boolean isAoE, Shape shape) {
+            this.id = id;
+            this.owner = owner;
+            this.effect = effect;
+            this.bonusDamage = bonusDamage;
+            this.shieldRatio = shieldRatio;
             this.name = name;
             this.description = description;
             this.power = power;
@@ -25,38 +46,56 @@ public class SkillData {
         }
     }
 
-    private static final Map<String, Skill> skills = new HashMap<>();
+    // 기본 공격 / 등록되지 않은 이름의 공통 항목
+    public static final Skill BASIC = new Skill(BASIC_ATTACK_ID, null, Effect.AREA, 0, 0f, BASIC_ATTACK, "적에게 타격", 1.0f, 1, false, Shape.MANHATTAN);
+
+    private static final Map<String, Skill> skills = new LinkedHashMap<>(); // 등록 순서 = id 순서
+    private static final Skill[] table;
 
     static {
+        skills.put(BASIC_ATTACK, BASIC);
+
         // --- [하데스 영웅 스킬] ---
-        addSkill("연옥의 불꽃", "단일 대상에게 명계의 집중 화염 투하 (계수:2.5)", 2.5f, 1, false, Shape.MANHATTAN);
-        addSkill("그림자 습격", "일직선 상의 적을 기습하여 강력한 타격 (계수:2.0)", 2.0f, 4, false, Shape.LINE);
-        addSkill("지옥의 숨결", "주변 십자 범위 모든 적에게 업화 (계수:1.9)", 1.8f, 1, true, Shape.CROSS);
-        addSkill("심연의 고리", "넓은 다이아몬드 범위의 적들을 잠식 (계수:1.3)", 1.3f, 3, true, Shape.MANHATTAN);
-        addSkill("망자의 원한", "자신 주변 8칸에 원혼의 대폭발을 해방 (계수:2.0)", 2.0f, 1, true, Shape.SQUARE);
+        addSkill(Team.HADES, "연옥의 불꽃", "단일 대상에게 명계의 집중 화염 투하 (계수:2.5)", 2.5f, 1, false, Shape.MANHATTAN);
+        addSkill(Team.HADES, "그림자 습격", "일직선 상의 적을 기습하여 강력한 타격 (계수:2.0)", 2.0f, 4, false, Shape.LINE);
+        addSkill(Team.HADES, "지옥의 숨결", "주변 십자 범위 모든 적에게 업화 (계수:1.9)", 1.8f, 1, true, Shape.CROSS);
+        addSkill(Team.HADES, "심연의 고리", "넓은 다이아몬드 범위의 적들을 잠식 (계수:1.3)", 1.3f, 3, true, Shape.MANHATTAN);
+        addSkill(Team.HADES, "망자의 원한", "자신 주변 8칸에 원혼의 대폭발을 해방 (계수:2.0)", 2.0f, 1, true, Shape.SQUARE);
 
         // --- [제우스 영웅 스킬] ---
-        addSkill("심판의 번개", "체력이 가장 낮은 적을 추격하는 벼락 (계수:1.0)", 0.5f, 99, false, Shape.GLOBAL);
-        addSkill("매혹의 향기", "주변 8칸 아군을 성스러운 힘으로 치유 (계수:0.8)", 0.8f, 2, true, Shape.SQUARE);
-        addSkill("여왕의 권위", "십자 방향 적들을 압박하여 위축시킴 (계수:1.1)", 1.1f, 2, true, Shape.CROSS);
-        addSkill("달빛의 추격", "매우 긴 사거리에서 일직선 정밀 저격 (계수:1.3)", 1.3f, 6, false, Shape.LINE);
-        addSkill("전략적 방벽", "공격과 동시에 피해를 줄이는 방어막 형성 (계수:1.0)", 1.0f, 1, false, Shape.MANHATTAN);
-        addSkill("영겁의 화로", "지면을 불바다로 만들어 적의 접근 차단 (계수:1.2)", 1.2f, 3, true, Shape.MANHATTAN);
-        addSkill("대지의 분노", "지진을 일으켜 주변 8칸 모든 적을 타격 (계수:0.8)", 0.8f, 2, true, Shape.SQUARE);
-        addSkill("올림푸스의 가호", "성스러운 빛으로 아군을 대폭 회복 (계수:1.8)", 1.8f, 1, false, Shape.MANHATTAN);
+        addSkill(Team.ZEUS, "심판의 번개", "체력이 가장 낮은 적을 추격하는 벼락 (계수:1.0)", 0.5f, 99, false, Shape.GLOBAL);
+        addSkill(Team.ZEUS, "매혹의 향기", "주변 8칸 아군을 성스러운 힘으로 치유 (계수:0.8)", 0.8f, 2, true, Shape.SQUARE);
+        addSkill(Team.ZEUS, "여왕의 권위", "십자 방향 적들을 압박하여 위축시킴 (계수:1.1)", 1.1f, 2, true, Shape.CROSS);
+        addSkill(Team.ZEUS, "달빛의 추격", "매우 긴 사거리에서 일직선 정밀 저격 (계수:1.3)", 1.3f, 6, false, Shape.LINE);
+        addSkill(Team.ZEUS, "전략적 방벽", "공격과 동시에 피해를 줄이는 방어막 형성 (계수:1.0)", 1.0f, 1, false, Shape.MANHATTAN);
+        addSkill(Team.ZEUS, "영겁의 화로", "지면을 불바다로 만들어 적의 접근 차단 (계수:1.2)", 1.2f, 3, true, Shape.MANHATTAN);
+        addSkill(Team.ZEUS, "대지의 분노", "지진을 일으켜 주변 8칸 모든 적을 타격 (계수:0.8)", 0.8f, 2, true, Shape.SQUARE);
+        addSkill(Team.ZEUS, "올림푸스의 가호", "성스러운 빛으로 아군을 대폭 회복 (계수:1.8)", 1.8f, 1, false, Shape.MANHATTAN);
+
+        table = skills.values().toArray(new Skill[0]);
     }
 
-    private static void addSkill(String name, String desc, float power, int range, boolean isAoE, Shape shape) {
-        skills.put(name, new Skill(name, desc, power, range, isAoE, shape));
+    // 효과 종류와 특수 수치는 여기서 한 번만 이름으로 판별합니다.
+    private static void addSkill(Team owner, String name, String desc, float power, int range, boolean isAoE, Shape shape) {
+        Effect effect;
+        if (name.equals("심판의 번개")) effect = Effect.JUDGMENT;
+        else if (name.contains("치유") || name.contains("향기") || name.contains("가호")) effect = Effect.HEAL;
+        else if (shape == Shape.LINE) effect = Effect.LINE;
+        else effect = Effect.AREA;
+        int bonusDamage = name.equals("여왕의 권위") ? 20 : 0;
+        float shieldRatio = name.equals("전략적 방벽") ? 0.2f : 0f;
+
+        skills.put(name, new Skill(skills.size(), owner, effect, bonusDamage, shieldRatio, name, desc, power, range, isAoE, shape));
     }
 
     // [복구] UpgradeScreen에서 랜덤 스킬 옵션을 뽑을 때 사용합니다.
     public static Array<String> getRandomSkills(int count, Array<String> learnedSkills) {
         Array<String> pool = new Array<>();
-        for (String name : skills.keySet()) {
-            // 이미 배운 스킬이 아니고, 보스 전용 스킬이 아닌 것들 중에서 선택
-            if (!learnedSkills.contains(name, false) && !isBossSkill(name) && !name.equals("기본 공격")) {
-                pool.add(name);
+        for (int id = BASIC_ATTACK_ID + 1; id < table.length; id++) {
+            Skill skill = table[id];
+            // 이미 배운 스킬이 아니고, 보스(제우스 진영) 전용 스킬이 아닌 것들 중에서 선택
+            if (skill.owner != Team.ZEUS && !learnedSkills.contains(skill.name, false)) {
+                pool.add(skill.name);
             }
         }
         pool.shuffle();
@@ -67,14 +106,23 @@ public class SkillData {
         return result;
     }
 
-    // 제우스 진영 영웅들이 사용하는 스킬인지 판별
-    private static boolean isBossSkill(String name) {
-        return name.contains("심판") || name.contains("매혹") || name.contains("여왕") ||
-            name.contains("달빛") || name.contains("전략적") || name.contains("영겁") ||
-            name.contains("대지") || name.contains("올림푸스");
+    // 이름으로 찾기. 없으면 BASIC 을 돌려줍니다. (새 객체를 만들지 않습니다)
+    public static Skill get(String skillName) {
+        Skill skill = skills.get(skillName);
+        return skill != null ? skill : BASIC;
     }
 
-    public static Skill get(String skillName) {
-        return skills.getOrDefault(skillName, new Skill("기본 공격", "적에게 타격", 1.0f, 1, false, Shape.MANHATTAN));
+    // 이름의 권능 id. 없으면 BASIC_ATTACK_ID (유닛 생성 / 권능 선택 때 한 번만 부릅니다)
+    public static int idOf(String skillName) {
+        return get(skillName).id;
+    }
+
+    // id 로 찾기: 해시 없이 표를 바로 읽습니다.
+    public static Skill byId(int id) {
+        return table[id];
+    }
+
+    public static int count() {
+        return table.length;
     }
 }
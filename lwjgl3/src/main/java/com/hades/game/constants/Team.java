@@ -0,0 +1,27 @@
+package com.hades.game.constants;
+
+// Chess Olympus: HADES vs ZEUS - 진영
+// 저장 파일 / 로그 / 화면에는 지금처럼 "HADES" / "ZEUS" 문자열을 쓰고, 전투 규칙은 이 값을 한 번 바꿔 둔 enum 이나 index() 로 비교합니다.
+// index() 는 탐색용 BattleRoster.TEAM_HADES / TEAM_ZEUS 와 같은 값입니다.
+public enum Team {
+    HADES, ZEUS;
+
+    private static final Team[] VALUES = values();
+
+    public int index() {
+        return ordinal();
+    }
+
+    public Team opponent() {
+        return this == HADES ? ZEUS : HADES;
+    }
+
+    public static Team of(int index) {
+        return VALUES[index];
+    }
+
+    // "ZEUS" 가 아니면 HADES 로 봅니다. (BattleRoster.teamIndex 의 기존 규칙)
+    public static Team of(String name) {
+        return "ZEUS".equals(name) ? ZEUS : HADES;
+    }
+}
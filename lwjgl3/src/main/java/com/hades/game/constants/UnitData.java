@@ -17,6 +17,7 @@ public class UnitData {
         private int value;
 
         private String reservedSkill = null;
+        private transient int reservedSkillId = SkillData.BASIC_ATTACK_ID; // reservedSkill 의 SkillData id (예약할 때 한 번 조회, 저장하지 않음)
         private final Array<String> learnedSkills = new Array<>();
         private final ObjectMap<String, Boolean> usedSkills = new ObjectMap<>();
 
@@ -55,6 +56,7 @@ public class UnitData {
         public Array<String> getLearnedSkills() { return learnedSkills; }
         public boolean isSkillReady(String skillName) { return !usedSkills.get(skillName, false); }
         public String getReservedSkill() { return reservedSkill; }
+        public int getReservedSkillId() { return reservedSkillId; }
 
         // [복구] 기존에 사용하던 skillName() 메서드
         public String skillName() { return (learnedSkills.size > 0) ? learnedSkills.get(0) : "기본 공격"; }
@@ -66,10 +68,10 @@ public class UnitData {
         public void setRange(int range) { this.range = range; }
         public void setValue(int value) { this.value = value; }
         public void setSkillUsed(String skillName, boolean used) { this.usedSkills.put(skillName, used); }
-        public void setReservedSkill(String skillName) { this.reservedSkill = skillName; }
-        public void clearReservedSkill() { this.reservedSkill = null; }
+        public void setReservedSkill(String skillName) { this.reservedSkill = skillName; this.reservedSkillId = SkillData.idOf(skillName); }
+        public void clearReservedSkill() { this.reservedSkill = null; this.reservedSkillId = SkillData.BASIC_ATTACK_ID; }
         public void addSkill(String skillName) { if (!learnedSkills.contains(skillName, false)) learnedSkills.add(skillName); }
-        public void resetSkillStatus() { this.usedSkills.clear(); this.reservedSkill = null; }
+        public void resetSkillStatus() { this.usedSkills.clear(); clearReservedSkill(); }
     }
 
     // --- [일반 병사 스탯: 밸런싱 유지] ---
@@ -1,17 +1,19 @@
 package com.hades.game.entities;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Disposable;
+import com.hades.game.constants.SkillData;
+import com.hades.game.constants.Team;
 import com.hades.game.constants.UnitData;
+import com.hades.game.logic.OccupancyGrid;
 
 // Chess Olympus: HADES vs ZEUS
 // 유닛의 데이터와 시각적 애니메이션 상태를 관리하는 클래스입니다.
-public class Unit implements Disposable {
+// 텍스처는 view.UnitTextures 가 imageKey 로 관리하므로, 이 클래스는 OpenGL 없이도 생성할 수 있습니다.
+// 위치 / 체력 / 생존 상태는 전투의 UnitStore 배열(slot)에 있고, 이 클래스는 그 값을 읽고 쓰는 화면용 뷰입니다.
+public final class Unit {
     public enum UnitClass {
         HERO, SHIELD, KNIGHT, ARCHER, CHARIOT, SAINT
     }
@@ -42,15 +44,15 @@ public class Unit implements Disposable {
 
     public final String name;
     public final String team;
+    public final Team side; // team 문자열을 한 번 바꿔 둔 값 (규칙 판정은 이 값으로 비교)
     public final UnitData.Stat stat;
+    public final int skillId; // 대표 권능(stat.skillName())의 SkillData id (생성 때 한 번 조회)
     public final UnitClass unitClass;
-    public final Texture portrait;
-    public final Texture fieldTexture;
+    public final String imageKey;
 
-    public int currentHp;
-    public int gridX;
-    public int gridY;
-    public int status = ALIVE;
+    public final UnitStore store;
+    public final int slot;
+    private OccupancyGrid grid = null; // 전투 화면의 칸별 유닛 표 (위치 이동 / 사망 시 갱신)
 
     public Vector2 animOffset = new Vector2(0, 0);
     public float hitTimer = 0;
@@ -67,21 +69,49 @@ public class Unit implements Disposable {
     public float speechTimer = 0;
     private final float SPEECH_DURATION = 1.5f;
 
-    public Unit(String name, String team, UnitData.Stat stat, String imageKey, UnitClass unitClass, int x, int y) {
+    public Unit(UnitStore store, String name, String team, UnitData.Stat stat, String imageKey, UnitClass unitClass, int x, int y) {
         this.name = name;
         this.team = team;
+        this.side = Team.of(team);
         this.stat = stat;
+        this.skillId = SkillData.idOf(stat.skillName());
         this.unitClass = unitClass;
-        this.currentHp = stat.hp();
-        this.gridX = x;
-        this.gridY = y;
+        this.imageKey = imageKey;
+        this.store = store;
+        this.slot = store.add(name, side, unitClass, stat, x, y);
+        store.bind(slot, this);
+    }
+
+    public int gridX() {
+        return store.x[slot];
+    }
+
+    public int gridY() {
+        return store.y[slot];
+    }
+
+    public int currentHp() {
+        return store.hp[slot];
+    }
+
+    public int status() {
+        return store.dead[slot] ? DEAD : ALIVE;
+    }
+
+    // 체력 직접 설정 (치료 / 보호막 / 피해 계산 결과). 0 이하가 되어도 사망 처리는 호출한 쪽이 markDead 로 합니다.
+    public void setHp(int hp) {
+        store.hp[slot] = hp;
+    }
 
-        String portraitPath = "images/character/" + imageKey + ".png";
-        this.portrait = loadSafeTexture(portraitPath);
+    // 초상화 이미지 경로
+    public String portraitPath() {
+        return "images/character/" + imageKey + ".png";
+    }
 
-        String fieldFileName = (unitClass == UnitClass.HERO) ? imageKey : (team.equalsIgnoreCase("HADES") ? "하데스" : "제우스") + imageKey;
-        String fieldPath = "images/units/" + fieldFileName + ".png";
-        this.fieldTexture = loadSafeTexture(fieldPath);
+    // 필드(보드 위) 이미지 경로: 병사는 진영별 이미지를 사용합니다.
+    public String fieldTexturePath() {
+        String fieldFileName = (unitClass == UnitClass.HERO) ? imageKey : (side == Team.HADES ? "하데스" : "제우스") + imageKey;
+        return "images/units/" + fieldFileName + ".png";
     }
 
     // [추가] 이 유닛이 영웅 클래스인지 확인하는 헬퍼 메서드
@@ -91,15 +121,15 @@ public class Unit implements Disposable {
 
     // [추가] 특정 리스트 내에서 아군 혹은 적군 영웅이 죽었는지 확인하는 정적 메서드
     public boolean isHeroDead(Array<Unit> units) {
-        if (this.isHero() && this.currentHp <= 0) return true;
+        if (this.isHero() && currentHp() <= 0) return true;
         return false;
     }
 
     public void takeDamage(int amount, Color color) {
-        this.currentHp -= amount;
-        if (this.currentHp < 0) {
-            this.currentHp = 0;
-            this.status = DEAD; // [강화] 체력이 0이 되면 즉시 상태 변경
+        store.hp[slot] -= amount;
+        if (store.hp[slot] <= 0) {
+            store.hp[slot] = 0;
+            markDead(); // [강화] 체력이 0이 되면 즉시 상태 변경
         }
         damageTexts.add(new DamageText(amount, color));
         playHitAnim();
@@ -142,8 +172,8 @@ public class Unit implements Disposable {
 
     public void playAttackAnim(int targetX, int targetY) {
         attackAnimTimer = ATTACK_DURATION;
-        float dx = targetX - gridX;
-        float dy = targetY - gridY;
+        float dx = targetX - gridX();
+        float dy = targetY - gridY();
         attackDir.set(dx * 1.5f, -dy).nor();
     }
 
@@ -151,42 +181,47 @@ public class Unit implements Disposable {
         hitTimer = 0.15f;
     }
 
-    private Texture loadSafeTexture(String path) {
-        try {
-            if (Gdx.files.internal(path).exists()) {
-                Texture tex = new Texture(Gdx.files.internal(path));
-                tex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-                return tex;
-            } else {
-                return new Texture(Gdx.files.internal("libgdx.png"));
-            }
-        } catch (Exception e) {
-            return new Texture(Gdx.files.internal("libgdx.png"));
-        }
-    }
-
     public int getPower(boolean isMyTurn) {
         return isMyTurn ? stat.atk() : stat.counterAtk();
     }
 
     public boolean canReach(Unit target) {
         if (target == null) return false;
-        int dist = Math.abs(this.gridX - target.gridX) + Math.abs(this.gridY - target.gridY);
-        return dist <= this.stat.range();
+        int dist = Math.abs(gridX() - target.gridX()) + Math.abs(gridY() - target.gridY());
+        return dist <= store.roster.range[slot];
     }
 
     public boolean isAlive() {
-        return status == ALIVE && currentHp > 0;
+        return store.isAlive(slot);
     }
 
     public void setPosition(int x, int y) {
-        this.gridX = x;
-        this.gridY = y;
+        int fromX = store.x[slot];
+        int fromY = store.y[slot];
+        store.x[slot] = x;
+        store.y[slot] = y;
+        if (grid != null) grid.move(this, fromX, fromY);
+    }
+
+    // 사망 처리: 상태를 바꾸고 칸별 유닛 표에서 뺍니다.
+    public void markDead() {
+        store.dead[slot] = true;
+        if (grid != null) grid.remove(this);
+    }
+
+    // 무르기(TurnHistory) 전용: 저장해 둔 값을 그대로 되돌립니다. 칸별 유닛 표는 호출한 쪽이 rebuild 합니다.
+    public void restore(int x, int y, int hp, int status) {
+        store.x[slot] = x;
+        store.y[slot] = y;
+        store.hp[slot] = hp;
+        store.dead[slot] = status == DEAD;
+    }
+
+    public void setGrid(OccupancyGrid grid) {
+        this.grid = grid;
     }
 
-    @Override
-    public void dispose() {
-        if (portrait != null) portrait.dispose();
-        if (fieldTexture != null && fieldTexture != portrait) fieldTexture.dispose();
+    public OccupancyGrid getGrid() {
+        return grid;
     }
 }
@@ -0,0 +1,61 @@
+package com.hades.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.hades.game.constants.Team;
+import com.hades.game.constants.UnitData;
+import com.hades.game.logic.sim.BattleRoster;
+
+// Chess Olympus: HADES vs ZEUS - 전투 화면 유닛 저장소 (struct-of-arrays)
+// 한 전투의 유닛 상태를 칸(slot)별 병렬 배열로 보관합니다. 고정 값(진영 / 병과 / 최대 체력 / 공격력 / 반격력 / 이동력 / 사거리)은 BattleRoster,
+// 변하는 값(위치 / 체력 / 사망 여부)은 이 클래스의 배열에 있고, Unit 은 자기 slot 의 값을 읽고 쓰는 화면용 뷰입니다.
+// 자동 공격 / 치료 / 범위 권능처럼 전투 중 매번 도는 반복문은 Unit 을 거치지 않고 이 배열을 slot 순서대로 훑습니다.
+// slot 순서는 생성 순서이고, 전투 목록(Array<Unit>)은 죽은 유닛만 빠지므로 살아 있는 유닛의 순서는 목록과 같습니다.
+public final class UnitStore {
+    public final BattleRoster roster;
+    public final int[] x;
+    public final int[] y;
+    public final int[] hp;
+    public final boolean[] dead; // Unit.status == DEAD
+    private final Unit[] views;
+    private int size = 0;
+
+    public UnitStore(int capacity, String playerTeam) {
+        roster = new BattleRoster(capacity, BattleRoster.teamIndex(playerTeam));
+        x = new int[capacity];
+        y = new int[capacity];
+        hp = new int[capacity];
+        dead = new boolean[capacity];
+        views = new Unit[capacity];
+    }
+
+    // Unit 생성자에서 호출: 고정 값을 등록하고 시작 위치 / 체력을 채운 slot 번호를 반환합니다.
+    int add(String name, Team team, Unit.UnitClass cls, UnitData.Stat stat, int gx, int gy) {
+        int slot = roster.add(name, team.index(), cls, stat);
+        size = slot + 1;
+        x[slot] = gx;
+        y[slot] = gy;
+        hp[slot] = stat.hp();
+        return slot;
+    }
+
+    void bind(int slot, Unit view) {
+        views[slot] = view;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Unit unit(int slot) {
+        return views[slot];
+    }
+
+    public boolean isAlive(int slot) {
+        return !dead[slot] && hp[slot] > 0;
+    }
+
+    // 전투 유닛 목록이 공유하는 저장소 (목록이 비어 있으면 null)
+    public static UnitStore of(Array<Unit> units) {
+        return units.size > 0 ? units.first().store : null;
+    }
+}
@@ -2,55 +2,450 @@ package com.hades.game.logic;
 
 import com.badlogic.gdx.utils.Array;
 import com.hades.game.entities.Unit;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Disposable;
 import com.hades.game.screens.BattleScreen;
+import com.hades.game.constants.Difficulty;
 import com.hades.game.constants.GameConfig;
 import com.hades.game.constants.SkillData;
-import com.hades.game.view.GameUI;
+import com.hades.game.constants.Team;
+import com.hades.game.logic.ai.AITelemetry;
+import com.hades.game.logic.ai.EndgameTablebase;
+import com.hades.game.logic.ai.MctsEngine;
+import com.hades.game.logic.ai.MoveHeuristic;
+import com.hades.game.logic.ai.MoveWeights;
+import com.hades.game.logic.ai.OpeningBook;
+import com.hades.game.logic.ai.ParallelSearchEngine;
+import com.hades.game.logic.ai.SearchEngine;
+import com.hades.game.logic.ai.SearchResult;
+import com.hades.game.logic.ai.TranspositionTable;
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.Bitboard;
+import com.hades.game.logic.sim.MoveTables;
+import com.hades.game.logic.sim.BattleState;
+import com.hades.game.logic.sim.ThreatMap;
+import com.hades.game.logic.ai.Evaluator;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
 
 // Chess Olympus AI: LibGDX Array Iterator 중첩 에러 방지 버전
-public class AILogic {
+// AI 하나 = AILogic 인스턴스 하나. 후보 버퍼, 최근 행동 기록, 탐색 엔진을 모두 인스턴스가 가지므로
+// 서로 다른 인스턴스는 한 JVM 에서 동시에 실행할 수 있습니다. (자가 대국, 병렬 시뮬레이션, 양 진영 AI)
+// 한 인스턴스는 prepareTurn(렌더 스레드) -> searchTurn(작업 스레드) -> applyTurn(렌더 스레드) 순서로 한 번에 한 턴만 처리합니다.
+public class AILogic implements Disposable {
+    private static final int INITIAL_CANDIDATES = 256; // 후보 버퍼 초기 크기 (부족하면 늘어납니다)
+    private static final int NOISE_POOL = 3; // 실수할 때 고르는 휴리스틱 상위 후보 수
+    private static final int RECENT_ACTORS = 2;
+
+    private final Array<Unit> recentActors = new Array<>(RECENT_ACTORS + 1);
+    private final Array<MoveCandidate> candidatesPool = new Array<>(INITIAL_CANDIDATES);
+    private final Array<MoveCandidate> activeCandidates = new Array<>(INITIAL_CANDIDATES);
+    private final RandomXS128 random = new RandomXS128();
+    private volatile MoveWeights weights = new MoveWeights(); // 후보 정렬 휴리스틱 가중치 (data/ai_weights.json)
+    private volatile OpeningBook openingBook = OpeningBook.EMPTY; // 전투 초반 미리 깊게 읽어 둔 수 (data/opening_book.bin)
+
+    // [위협 지도] 턴마다 한 번 만든 전장 스냅샷. 후보 칸 평가는 루프 없이 칸 값만 읽습니다.
+    private BattleState boardView;
+    private final Unit[] unitOnCell = new Unit[Bitboard.CELLS];
+
+    // [탐색] 후보 수를 실제로 몇 수 앞까지 두어 보고 고르는 alpha-beta 엔진
+    private final SearchEngine searchEngine;
+    // [난이도] 탐색 깊이 / 시간 예산 / 실수 확률 (setDifficulty 로 전투 시작 시 설정)
+    private volatile long searchBudgetMillis = Difficulty.NORMAL.budgetMillis;
+    private volatile int maxSearchDepth = Difficulty.NORMAL.maxDepth;
+    private volatile float moveNoise = Difficulty.NORMAL.noise;
+    // [병렬 탐색] 2 이상이면 루트 수를 여러 코어에 나눠 탐색합니다. (후반 스테이지 보스전용)
+    private ParallelSearchEngine parallelEngine = null;
+
+    // [탐색 방식] 스테이지마다 alpha-beta(휴리스틱 평가) 또는 MCTS(무작위 진행 승률) 중 하나를 사용합니다.
+    public enum SearchMode {
+        ALPHA_BETA, MCTS
+    }
+    private volatile SearchMode searchMode = SearchMode.ALPHA_BETA;
+    private MctsEngine mctsEngine = null; // 노드 풀이 커서 처음 MCTS 를 쓸 때 만듭니다.
+
+    // [예측 탐색(pondering)] 플레이어 차례에 예상 응수마다 미리 찾아 둔 AI 의 답. 키는 응수 뒤 국면의 해시입니다.
+    // 수는 유닛 인덱스 대신 (출발 칸 << 6 | 도착 칸) 으로 보관합니다. (그 사이 쓰러진 유닛이 목록에서 빠져도 유효)
+    private static final int PONDER_LINES = 4;         // 미리 읽어 둘 플레이어 응수 수
+    private static final int PONDER_BUDGET_FACTOR = 3; // 응수 하나당 평소 턴 예산의 몇 배를 쓸지
+    private final ConcurrentHashMap<Long, Pondered> ponderCache = new ConcurrentHashMap<>();
+    private volatile boolean pondering = false;
+    private volatile int ponderGeneration = 0; // preparePonder / stopPonder 마다 증가 (지난 예측 탐색의 늦은 결과를 버립니다)
+
+    private static final class Pondered {
+        final int fromCell, toCell;
+        final SearchResult result;
+
+        Pondered(int fromCell, int toCell, SearchResult result) {
+            this.fromCell = fromCell;
+            this.toCell = toCell;
+            this.result = result;
+        }
+    }
 
-    private static final float DIFFICULTY_FACTOR = 1.0f;
-    private static final Array<Integer> recentUnitIds = new Array<>();
-    private static final Array<MoveCandidate> candidatesPool = new Array<>();
-    private static final Array<MoveCandidate> activeCandidates = new Array<>();
+    // [종반 테이블베이스] 남은 유닛이 적어지면 그 조합의 테이블을 백그라운드로 만들어(또는 파일에서 읽어) 두고,
+    // 테이블이 승패를 확정하는 국면에서는 탐색 대신 테이블의 수를 둡니다. (무승부 국면은 평소 탐색이 더 나은 수를 고릅니다)
+    private volatile Path tablebaseDir = Paths.get(System.getProperty("java.io.tmpdir"), "chess-olympus-tb");
+    private volatile EndgameTablebase tablebase = null; // 다 만들어진 테이블만 보관합니다.
+    private volatile boolean tablebaseBuilding = false;
+    private ExecutorService tablebaseBuilder = null;
+
+    // [텔레메트리] 턴별 계산 비용 기록 (오버레이 / 로그 파일)
+    private final AITelemetry telemetry = new AITelemetry();
+
+    // [후보 정렬 단계] 막타 -> 권능 발동 -> 최근 턴의 최선 수(killer) -> 나머지(점수, history 순) -> 전체 평가를 건너뛴 지배된 수
+    private static final int TIER_KILL = 0;
+    private static final int TIER_SKILL = 1;
+    private static final int TIER_KILLER = 2;
+    private static final int TIER_QUIET = 3;
+    private static final int TIER_PRUNED = 4;
+
+    // [history / killer] 실제로 둔 AI 수를 (병과, 도착 칸) 단위로 기억해, 비슷한 국면의 다음 턴 후보 정렬에 씁니다.
+    private static final int KILLER_SLOTS = 2;
+    private static final int HISTORY_LIMIT = 1 << 20; // 넘으면 전체를 절반으로 줄여 오래된 기록의 비중을 낮춥니다.
+    private final int[][] history = new int[Unit.UnitClass.values().length][Bitboard.CELLS];
+    private final int[] killers = {-1, -1}; // (병과 ordinal << 6) | 칸
+
+    // 후보 가지치기 통계: 직전 후보 생성에서 만든 후보 수와 그중 전체 평가 없이 꼬리로 보낸 수 (턴마다 TurnPlan 을 거쳐 텔레메트리에 남깁니다)
+    private int lastCandidates = 0;
+    private int lastPruned = 0;
 
     private static class MoveCandidate {
         Unit actor;
         int x, y;
         float score;
+        int tier;
+        int history;
 
-        void set(Unit actor, int x, int y, float score) {
+        void set(Unit actor, int x, int y, float score, int tier, int history) {
             this.actor = actor;
             this.x = x;
             this.y = y;
             this.score = score;
+            this.tier = tier;
+            this.history = history;
         }
     }
 
-    static {
-        for(int i = 0; i < 1000; i++) candidatesPool.add(new MoveCandidate());
+    public AILogic() {
+        this(new TranspositionTable());
+    }
+
+    // 많은 인스턴스를 함께 돌릴 때(시뮬레이션)는 작은 전치표를 넘겨 메모리를 줄입니다.
+    public AILogic(TranspositionTable table) {
+        searchEngine = new SearchEngine(table);
+        for (int i = 0; i < INITIAL_CANDIDATES; i++) candidatesPool.add(new MoveCandidate());
+    }
+
+    /**
+     * [메서드 설명] 한 턴의 AI 계산 단위.
+     * 렌더 스레드에서 만든 불변 스냅샷(BattleState + 루트 수 배열)만 담고 있어, 탐색은 다른 스레드에서 안전하게 수행됩니다.
+     */
+    public static class TurnPlan {
+        final Unit[] actors;      // 스냅샷 시점의 유닛 참조 (배열 인덱스 = BattleState 유닛 인덱스)
+        final BattleState root;
+        final int[] rootMoves;
+        SearchResult result;
+        SearchResult pondered; // 예측 탐색이 이미 답을 찾아 둔 경우 (탐색 생략)
+        EndgameTablebase tablebase; // root 의 명단에 묶어 둔 종반 테이블 (대상이 아니면 null)
+        long prepareNanos;     // 렌더 스레드에서 후보 정렬과 스냅샷에 쓴 시간
+        int candidates;        // 후보 수 (가지친 후보 포함)
+        int pruned;            // 그중 지배되어 전체 평가를 건너뛴 후보 수
+
+        TurnPlan(Unit[] actors, BattleState root, int[] rootMoves) {
+            this.actors = actors;
+            this.root = root;
+            this.rootMoves = rootMoves;
+        }
+
+        public SearchResult getResult() {
+            return result;
+        }
+
+        public boolean isPonderHit() {
+            return pondered != null;
+        }
     }
 
-    public static void processAITurn(Array<Unit> units, String aiTeam, TurnManager turnManager, Object screenObj) {
+    // 동기 실행 버전: 스냅샷 -> 탐색 -> 적용을 한 번에 처리합니다.
+    public void processAITurn(Array<Unit> units, String aiTeam, TurnManager turnManager, Object screenObj) {
+        TurnPlan plan = null;
         try {
-            String strategy = determineStrategy();
-            MoveCandidate best = findGlobalBestMove(units, aiTeam, strategy);
-
-            if (best != null && best.actor != null) {
-                recordAction(best.actor.hashCode());
-                checkAndReserveSkill(best.actor, best.x, best.y, units);
-                best.actor.setPosition(best.x, best.y);
-
-                String reserved = best.actor.stat.getReservedSkill();
-                if (reserved != null && !reserved.equals("기본 공격")) {
-                    GameUI ui = (screenObj instanceof BattleScreen) ? ((BattleScreen) screenObj).getGameUI() : null;
-                    SkillManager.executeSkill(best.actor, reserved, units, ui, best.actor.team, screenObj);
-                }
+            plan = searchTurn(prepareTurn(units, aiTeam));
+        } catch (Exception e) {
+            System.err.println("[AI Error] " + e.getMessage());
+        }
+        applyTurn(plan, units, turnManager, screenObj);
+    }
+
+    /**
+     * [메서드 설명] 렌더 스레드에서 호출: 휴리스틱으로 후보 수를 정렬한 뒤 전투 국면을 스냅샷으로 떠 둡니다.
+     * 둘 수 있는 수가 없으면 null 을 반환합니다.
+     */
+    public TurnPlan prepareTurn(Array<Unit> units, String aiTeam) {
+        long start = System.nanoTime();
+        String strategy = determineStrategy();
+        if (findGlobalBestMove(units, aiTeam, strategy) == null) return null;
+
+        BattleState root = boardView; // 후보 평가에 쓴 스냅샷을 그대로 탐색 루트로 사용합니다.
+        Unit[] actors = new Unit[units.size];
+        for (int i = 0; i < units.size; i++) actors[i] = units.get(i);
+
+        int[] moves = new int[activeCandidates.size];
+        for (int i = 0; i < activeCandidates.size; i++) {
+            MoveCandidate c = activeCandidates.get(i);
+            moves[i] = BattleRules.encodeMove(units.indexOf(c.actor, true), BattleState.cellOf(c.x, c.y));
+        }
+        TurnPlan plan = new TurnPlan(actors, root, moves);
+        plan.pondered = takePondered(root, moves);
+        plan.tablebase = bindTablebase(root);
+        requestTablebase(root);
+        plan.candidates = lastCandidates;
+        plan.pruned = lastPruned;
+        plan.prepareNanos = System.nanoTime() - start;
+        return plan;
+    }
+
+    // 플레이어가 예측한 응수 중 하나를 두었다면, 그 국면에서 미리 찾아 둔 답을 이번 턴 후보 수로 바꿔 돌려줍니다.
+    private SearchResult takePondered(BattleState root, int[] moves) {
+        Pondered p = ponderCache.get(root.hash);
+        ponderCache.clear();
+        if (p == null) return null;
+        int unit = root.unitAt(BattleState.cellX(p.fromCell), BattleState.cellY(p.fromCell));
+        if (unit == BattleState.NO_UNIT) return null;
+        int move = BattleRules.encodeMove(unit, p.toCell);
+        for (int m : moves) {
+            if (m == move) {
+                p.result.bestMove = move;
+                return p.result;
+            }
+        }
+        return null;
+    }
 
-                if (screenObj instanceof BattleScreen) {
-                    ((BattleScreen) screenObj).processMoveEnd(best.actor);
+    /**
+     * [메서드 설명] 작업 스레드에서 호출 가능: 스냅샷만 읽어 alpha-beta 탐색을 수행합니다.
+     * 실제 Unit 객체는 건드리지 않습니다.
+     */
+    public TurnPlan searchTurn(TurnPlan plan) {
+        if (plan == null) return null;
+        long searchStart = System.nanoTime();
+        ParallelSearchEngine parallel = parallelEngine;
+        MctsEngine mcts = mctsEngine;
+        SearchResult result;
+        String source;
+        int bookMove = openingBook.probe(plan.root, plan.rootMoves, plan.rootMoves.length);
+        boolean tbHint = bookMove == BattleRules.PASS && plan.pondered == null && promoteTablebaseMove(plan);
+        if (bookMove != BattleRules.PASS) {
+            result = new SearchResult();
+            result.bestMove = bookMove;
+            source = "BOOK";
+        } else if (plan.pondered != null) {
+            result = plan.pondered;
+            source = "PONDER";
+        } else if (searchMode == SearchMode.MCTS && mcts != null) {
+            result = mcts.search(plan.root, plan.rootMoves, plan.rootMoves.length, searchBudgetMillis, Integer.MAX_VALUE);
+            source = "MCTS";
+        } else if (parallel != null) {
+            result = parallel.search(plan.root, plan.rootMoves, plan.rootMoves.length, searchBudgetMillis, maxSearchDepth);
+            source = "SEARCHx" + parallel.getThreads();
+        } else {
+            result = searchEngine.search(plan.root, plan.rootMoves, plan.rootMoves.length, searchBudgetMillis, maxSearchDepth);
+            source = "SEARCH";
+        }
+        if (tbHint) source += "+TB";
+        boolean noise = applyNoise(plan, result);
+        plan.result = result;
+
+        long searchNanos = System.nanoTime() - searchStart;
+        telemetry.record(new AITelemetry.Entry(telemetry.getTurns() + 1, source, (plan.prepareNanos + searchNanos) / 1_000_000.0,
+            searchNanos / 1_000_000.0, result.nodes, result.depth, result.ttHitRate(), describeMove(plan, result.bestMove), result.score, noise,
+            plan.candidates, plan.pruned));
+        return plan;
+    }
+
+    /**
+     * [메서드 설명] 렌더 스레드에서 호출: 플레이어 차례의 국면을 스냅샷으로 떠 둡니다. (예측 탐색 준비)
+     * MCTS 모드에서는 예측 탐색을 하지 않으므로 null 을 반환합니다.
+     */
+    public BattleState preparePonder(Array<Unit> units, String aiTeam) {
+        if (searchMode == SearchMode.MCTS) return null;
+        String playerTeam = Team.of(aiTeam).opponent().name();
+        ponderCache.clear();
+        ponderGeneration++;
+        pondering = true;
+        BattleState root = BattleState.fromUnits(units, playerTeam, playerTeam);
+        requestTablebase(root);
+        return root;
+    }
+
+    /**
+     * [메서드 설명] 작업 스레드에서 호출: 플레이어의 그럴듯한 응수 몇 개를 골라, 각 응수 뒤 국면에서 AI 의 답을 미리 탐색합니다.
+     * 평소보다 긴 예산을 쓰므로 예측이 맞으면 더 깊은 결과를 바로 둘 수 있습니다. stopPonder() 로 언제든 멈춥니다.
+     */
+    public void ponder(BattleState playerRoot) {
+        if (playerRoot == null || playerRoot.isGameOver()) return;
+        int generation = ponderGeneration;
+        BooleanSupplier stopped = () -> !pondering || ponderGeneration != generation;
+        int[] replies = new int[1024];
+        int count = BattleRules.generateMoves(playerRoot, replies);
+        if (count == 0) return;
+
+        // 1수 평가로 플레이어에게 가장 좋아 보이는 응수부터 정렬합니다. (평가값은 응수 뒤 차례인 AI 기준이므로 낮을수록 플레이어에게 좋음)
+        BattleState child = new BattleState(playerRoot.roster);
+        long[] keyed = new long[count];
+        for (int i = 0; i < count; i++) {
+            child.copyFrom(playerRoot);
+            BattleRules.applyMove(child, replies[i]);
+            int eval = child.isGameOver() ? (child.winner == playerRoot.sideToMove ? -Evaluator.WIN_SCORE : Evaluator.WIN_SCORE)
+                : Evaluator.evaluate(child);
+            keyed[i] = ((long) eval << 32) | (replies[i] & 0xFFFFFFFFL);
+        }
+        Arrays.sort(keyed);
+
+        int[] aiMoves = new int[1024];
+        int lines = Math.min(PONDER_LINES, count);
+        for (int i = 0; i < lines && !stopped.getAsBoolean(); i++) {
+            int reply = (int) keyed[i];
+            child.copyFrom(playerRoot);
+            BattleRules.applyMove(child, reply);
+            if (child.isGameOver()) continue;
+            int aiCount = BattleRules.generateMoves(child, aiMoves);
+            if (aiCount == 0) continue;
+
+            SearchResult r = searchEngine.search(child, aiMoves, aiCount, searchBudgetMillis * PONDER_BUDGET_FACTOR, maxSearchDepth, stopped);
+            if (stopped.getAsBoolean()) break; // 멈춘 뒤의 결과는 캐시에 넣지 않습니다. (takePondered 가 이미 비웠을 수 있음)
+            if (r.depth == 0 || r.bestMove == BattleRules.PASS) continue; // 1수도 끝내지 못하고 멈춘 경우
+            int from = child.cellOfUnit(BattleRules.moveUnit(r.bestMove));
+            Pondered answer = new Pondered(from, BattleRules.moveCell(r.bestMove), r);
+            ponderCache.put(child.hash, answer);
+            if (stopped.getAsBoolean()) ponderCache.remove(child.hash, answer); // put 직전에 멈춘 경우
+        }
+    }
+
+    // 플레이어가 수를 두었거나 화면이 닫힐 때 호출: 진행 중인 예측 탐색을 멈춥니다. (이미 찾아 둔 답은 유지)
+    public void stopPonder() {
+        if (!pondering) return;
+        pondering = false;
+        ponderGeneration++;
+    }
+
+    // 종반 테이블이 승패를 아는 국면이면 테이블 최선의 수를 후보 맨 앞으로 옮깁니다. (체력 구간 근사값이라 수를 정하지는 않고, 탐색이 먼저 보게만 합니다)
+    private static boolean promoteTablebaseMove(TurnPlan plan) {
+        EndgameTablebase tb = plan.tablebase;
+        if (tb == null) return false;
+        int value = tb.probe(plan.root);
+        if (value == EndgameTablebase.NOT_COVERED || value == 0) return false;
+        int move = tb.bestMove(plan.root, plan.rootMoves, plan.rootMoves.length);
+        int[] moves = plan.rootMoves;
+        for (int i = 0; i < moves.length; i++) {
+            if (moves[i] != move) continue;
+            System.arraycopy(moves, 0, moves, 1, i);
+            moves[0] = move;
+            return true;
+        }
+        return false;
+    }
+
+    // 낮은 난이도: 일정 확률로 탐색 결과 대신 휴리스틱 상위 후보 중 다른 수를 둡니다.
+    private boolean applyNoise(TurnPlan plan, SearchResult result) {
+        int pool = Math.min(NOISE_POOL, plan.rootMoves.length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (pool < 2 || random.nextFloat() >= moveNoise) return false;
+        int pick = plan.rootMoves[random.nextInt(pool)];
+        if (pick == result.bestMove) return false;
+        result.bestMove = pick;
+        return true;
+    }
+
+    // 텔레메트리용 수 표기: 유닛 이름(출발)->(도착)
+    private static String describeMove(TurnPlan plan, int move) {
+        if (move == BattleRules.PASS) return "PASS";
+        int u = BattleRules.moveUnit(move);
+        int cell = BattleRules.moveCell(move);
+        return plan.actors[u].name + "(" + plan.root.x[u] + "," + plan.root.y[u] + ")->("
+            + BattleState.cellX(cell) + "," + BattleState.cellY(cell) + ")";
+    }
+
+    // 다 만들어진 테이블을 이번 루트의 (새로 만든) 명단에 묶습니다. 파일은 다시 열지 않습니다. 루트가 테이블 밖이면 null.
+    private EndgameTablebase bindTablebase(BattleState root) {
+        EndgameTablebase current = tablebase;
+        EndgameTablebase bound = current != null ? current.bindTo(root) : null;
+        return bound != null && bound.probe(root) != EndgameTablebase.NOT_COVERED ? bound : null;
+    }
+
+    // 지금 국면이 테이블 대상인데 맞는 테이블이 없으면 백그라운드로 만들기 시작합니다. (렌더 스레드, 한 번에 하나만)
+    private void requestTablebase(BattleState root) {
+        if (tablebaseBuilding || bindTablebase(root) != null) return;
+        EndgameTablebase next = EndgameTablebase.plan(root);
+        if (next == null) return;
+
+        if (tablebaseBuilder == null) {
+            tablebaseBuilder = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "hades-tablebase");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY); // 탐색 스레드보다 양보합니다.
+                return t;
+            });
+        }
+        tablebaseBuilding = true;
+        Path dir = tablebaseDir;
+        tablebaseBuilder.submit(() -> {
+            try {
+                next.open(dir);
+                tablebase = next;
+            } catch (Exception e) {
+                System.err.println("[AI Tablebase Error] " + e.getMessage());
+            } finally {
+                tablebaseBuilding = false;
+            }
+        });
+    }
+
+    // 진행 중인 탐색을 가능한 빨리 끝내도록 요청합니다. (전투 종료/화면 전환 시)
+    public void stopSearch() {
+        searchEngine.requestStop();
+        ParallelSearchEngine parallel = parallelEngine;
+        if (parallel != null) parallel.requestStop();
+        MctsEngine mcts = mctsEngine;
+        if (mcts != null) mcts.requestStop();
+    }
+
+    /**
+     * [메서드 설명] 렌더 스레드에서 호출: 탐색 결과를 실제 유닛에 반영하고 턴을 넘깁니다.
+     * plan 이 null 이거나 결과가 없으면 이동 없이 턴만 넘깁니다.
+     */
+    public void applyTurn(TurnPlan plan, Array<Unit> units, TurnManager turnManager, Object screenObj) {
+        try {
+            if (plan != null && plan.result != null && plan.result.bestMove != BattleRules.PASS) {
+                Unit actor = plan.actors[BattleRules.moveUnit(plan.result.bestMove)];
+                int cell = BattleRules.moveCell(plan.result.bestMove);
+                int tx = BattleState.cellX(cell);
+                int ty = BattleState.cellY(cell);
+
+                if (actor != null && actor.isAlive()) {
+                    recordAction(actor);
+                    rememberMove(actor.unitClass, cell, plan.result.depth);
+                    checkAndReserveSkill(actor, tx, ty, units);
+                    actor.setPosition(tx, ty);
+
+                    String reserved = actor.stat.getReservedSkill();
+                    if (reserved != null && !reserved.equals(SkillData.BASIC_ATTACK)) {
+                        BattleLog ui = (screenObj instanceof BattleScreen) ? ((BattleScreen) screenObj).getGameUI() : null;
+                        CombatManager.DeathHandler onDeath = (screenObj instanceof BattleScreen) ? ((BattleScreen) screenObj)::handleDeath : null;
+                        SkillManager.executeSkill(actor, actor.skillId, units, ui, actor.team, onDeath); // AI 는 대표 권능만 예약합니다.
+                    }
+
+                    if (screenObj instanceof BattleScreen) {
+                        ((BattleScreen) screenObj).processMoveEnd(actor);
+                    }
                 }
             }
         } catch (Exception e) {
@@ -60,22 +455,118 @@ public class AILogic {
         }
     }
 
-    private static String determineStrategy() {
-        float roll = MathUtils.random(0f, 100f);
-        if (roll < 40f) return "EFFICIENCY";
-        if (roll < 70f) return "ASSASSIN";
-        return "DEFENSIVE";
+    // 튜닝된 휴리스틱 가중치를 씁니다. null 이면 기본값으로 돌아갑니다.
+    public void setWeights(MoveWeights weights) {
+        this.weights = weights != null ? weights : new MoveWeights();
+    }
+
+    // 종반 테이블 파일을 둘 폴더 (기본값은 임시 폴더)
+    public void setTablebaseDir(Path dir) {
+        if (dir != null) tablebaseDir = dir;
+    }
+
+    // 오프닝 북을 씁니다. null 이면 북 없이 탐색만 합니다.
+    public void setOpeningBook(OpeningBook book) {
+        openingBook = book != null ? book : OpeningBook.EMPTY;
+    }
+
+    public void setSearchBudgetMillis(long millis) {
+        searchBudgetMillis = millis;
     }
 
-    private static void recordAction(int unitHash) {
-        recentUnitIds.add(unitHash);
-        if (recentUnitIds.size > 2) recentUnitIds.removeIndex(0);
+    /**
+     * [메서드 설명] 난이도에 맞춰 탐색 깊이 / 시간 예산 / 실수 확률을 설정합니다. (전투 시작 시 호출)
+     */
+    public void setDifficulty(Difficulty difficulty) {
+        if (difficulty == null) difficulty = Difficulty.NORMAL;
+        searchBudgetMillis = difficulty.budgetMillis;
+        maxSearchDepth = difficulty.maxDepth;
+        moveNoise = difficulty.noise;
+    }
+
+    /**
+     * [메서드 설명] 탐색에 사용할 스레드 수를 정합니다. 1 이하이면 단일 스레드 엔진을 사용합니다.
+     * AI 턴이 진행 중이 아닐 때(전투 시작 시) 호출해야 합니다.
+     */
+    public void setSearchThreads(int threads) {
+        int current = parallelEngine != null ? parallelEngine.getThreads() : 1;
+        if (threads == current || (threads <= 1 && current == 1)) return;
+        if (parallelEngine != null) parallelEngine.shutdown();
+        parallelEngine = threads > 1 ? new ParallelSearchEngine(threads) : null;
+    }
+
+    /**
+     * [메서드 설명] AI 턴 탐색 방식을 정합니다. AI 턴이 진행 중이 아닐 때(전투 시작 시) 호출해야 합니다.
+     */
+    public void setSearchMode(SearchMode mode) {
+        if (mode == SearchMode.MCTS && mctsEngine == null) mctsEngine = new MctsEngine();
+        searchMode = mode;
+    }
+
+    public SearchMode getSearchMode() {
+        return searchMode;
+    }
+
+    public AITelemetry getTelemetry() {
+        return telemetry;
+    }
+
+    public SearchEngine getSearchEngine() {
+        return searchEngine;
+    }
+
+    // 병렬 탐색 풀을 종료합니다. (전투 화면 해제 시)
+    @Override
+    public void dispose() {
+        stopSearch();
+        if (parallelEngine != null) parallelEngine.shutdown();
+        parallelEngine = null;
+        if (tablebaseBuilder != null) tablebaseBuilder.shutdownNow();
+        tablebaseBuilder = null;
+    }
+
+    private String determineStrategy() {
+        float roll = random.nextFloat() * 100f;
+        if (roll < 40f) return MoveHeuristic.EFFICIENCY;
+        if (roll < 70f) return MoveHeuristic.ASSASSIN;
+        return MoveHeuristic.DEFENSIVE;
+    }
+
+    private void recordAction(Unit actor) {
+        recentActors.add(actor);
+        if (recentActors.size > RECENT_ACTORS) recentActors.removeIndex(0);
+    }
+
+    // 실제로 둔 수를 killer 슬롯과 history 표에 반영합니다. 깊게 읽고 고른 수일수록 가중치가 큽니다.
+    private void rememberMove(Unit.UnitClass unitClass, int cell, int depth) {
+        int key = (unitClass.ordinal() << 6) | cell;
+        if (killers[0] != key) {
+            System.arraycopy(killers, 0, killers, 1, KILLER_SLOTS - 1);
+            killers[0] = key;
+        }
+        int[] row = history[unitClass.ordinal()];
+        row[cell] += (depth + 1) * (depth + 1);
+        if (row[cell] > HISTORY_LIMIT) {
+            for (int[] r : history) {
+                for (int c = 0; c < r.length; c++) r[c] >>= 1;
+            }
+        }
+    }
+
+    private boolean isKiller(Unit.UnitClass unitClass, int cell) {
+        int key = (unitClass.ordinal() << 6) | cell;
+        for (int k : killers) {
+            if (k == key) return true;
+        }
+        return false;
     }
 
     // [수정] 향상된 for문(Iterator)을 모두 제거하고 인덱스 루프로 변경
-    private static MoveCandidate findGlobalBestMove(Array<Unit> units, String aiTeam, String strategy) {
+    private MoveCandidate findGlobalBestMove(Array<Unit> units, String aiTeam, String strategy) {
         int candidateIdx = 0;
         activeCandidates.clear();
+        buildBoardView(units, aiTeam);
+        Team aiSide = Team.of(aiTeam); // 유닛 반복문 안에서는 문자열 대신 진영 enum 으로 비교합니다.
 
         int halfBoard = GameConfig.BOARD_HEIGHT / 2;
         boolean isPlayerInMyTerritory = false;
@@ -87,11 +578,11 @@ public class AILogic {
             Unit u = units.get(i);
             if (u == null || !u.isAlive()) continue;
 
-            if (!u.team.equals(aiTeam)) {
-                if (u.gridY >= halfBoard) isPlayerInMyTerritory = true;
+            if (u.side != aiSide) {
+                if (u.gridY() >= halfBoard) isPlayerInMyTerritory = true;
             } else {
-                if (isUnitUnderThreat(u, units, aiTeam)) {
-                    float hpRatio = (float) u.currentHp / u.stat.hp();
+                if (isUnitUnderThreat(u)) {
+                    float hpRatio = (float) u.currentHp() / u.stat.hp();
                     if (hpRatio < lowestHpRatio) {
                         lowestHpRatio = hpRatio;
                         mostVulnerableAlly = u;
@@ -100,128 +591,138 @@ public class AILogic {
             }
         }
 
-        // 2. 전체 탐색 루프 (인덱스 사용)
+        int allyCell = mostVulnerableAlly != null ? BattleState.cellOf(mostVulnerableAlly.gridX(), mostVulnerableAlly.gridY()) : -1;
+
+        // 2. 후보 생성 루프 (인덱스 사용)
+        // 적중 대상 / 막타 여부 / 위협처럼 싼 정보로 먼저 단계를 나누고, 지배되는 조용한 수는 전체 평가 없이 꼬리로 보냅니다.
+        // 조용한 수(적을 칠 수 없는 칸)의 점수는 영토 / 위협 수 / 받을 피해 벌점으로만 정해지므로 (벌점 가중치는 모두 0 이상),
+        // 아군 진영의 위협받지 않는 칸(점수 0, 조용한 수의 최댓값)이 하나라도 있으면 같은 유닛의 다른 조용한 수는 그보다 나을 수 없습니다.
+        // 꼬리로 보낸 수도 루트 후보에는 그대로 남아 탐색은 모든 수를 봅니다.
+        ThreatMap threats = boardView.threats;
+        long ownHalf = Bitboard.BOARD_MASK & -(1L << (halfBoard * GameConfig.BOARD_WIDTH));
+        int pruned = 0;
         for (int i = 0; i < units.size; i++) {
             Unit actor = units.get(i);
-            if (actor == null || !actor.isAlive() || !aiTeam.equals(actor.team)) continue;
+            if (actor == null || !actor.isAlive() || actor.side != aiSide) continue;
 
             if (actor.unitClass == Unit.UnitClass.HERO && !isPlayerInMyTerritory) {
-                if (!isUnitUnderThreat(actor, units, aiTeam) && !canHitEnemyFrom(actor, actor.gridX, actor.gridY, units)) {
+                if (!isUnitUnderThreat(actor) && !canHitEnemyFrom(actor, actor.gridX(), actor.gridY())) {
                     continue;
                 }
             }
 
-            float unitBasePenalty = recentUnitIds.contains(actor.hashCode(), false) ? -30000f : 0f;
-
-            for (int x = 0; x < GameConfig.BOARD_WIDTH; x++) {
-                for (int y = 0; y < GameConfig.BOARD_HEIGHT; y++) {
-                    if (!BoardManager.canMoveTo(actor, x, y, units)) continue;
-
-                    float score = calculateFinalScore(actor, x, y, units, aiTeam, strategy) + unitBasePenalty;
-
-                    if (mostVulnerableAlly != null && actor != mostVulnerableAlly) {
-                        int distToAlly = Math.abs(x - mostVulnerableAlly.gridX) + Math.abs(y - mostVulnerableAlly.gridY);
-                        if (distToAlly <= 5 && canHitEnemyFrom(actor, x, y, units)) {
-                            score += (6 - distToAlly) * 5000f;
-                        }
-                    }
-
-                    if (candidateIdx < candidatesPool.size) {
-                        MoveCandidate c = candidatesPool.get(candidateIdx);
-                        c.set(actor, x, y, score);
-                        activeCandidates.add(c);
-                        candidateIdx++;
+            float unitBasePenalty = recentActors.contains(actor, true) ? -weights.recentActorPenalty : 0f;
+            int damage = MoveHeuristic.damage(boardView, i);
+            int enemyTeam = enemyTeamOf(actor);
+            boolean skillReady = boardView.roster.skillKind[i] != BattleRoster.SKILL_NONE && !boardView.skillUsed[i];
+            int[] historyRow = history[actor.unitClass.ordinal()];
+
+            // 이동 가능한 칸을 비트보드로 한 번에 구한 뒤 켜진 비트만 순회합니다.
+            long moves = BoardManager.moveMask(actor, units);
+            long safeQuiet = moves & ownHalf & ~threats.threatenedCells(enemyTeam);
+            boolean quietCovered = false; // 대표 조용한 수(점수 최댓값)를 이미 평가했는지
+            while (moves != 0) {
+                int cell = Long.numberOfTrailingZeros(moves);
+                moves &= moves - 1;
+                int x = cell % GameConfig.BOARD_WIDTH;
+                int y = cell / GameConfig.BOARD_WIDTH;
+                long targets = MoveHeuristic.targets(boardView, i, cell);
+
+                // 버퍼가 모자라면 늘립니다. (큰 전장에서도 후보를 버리지 않습니다)
+                if (candidateIdx == candidatesPool.size) candidatesPool.add(new MoveCandidate());
+                MoveCandidate c = candidatesPool.get(candidateIdx++);
+                activeCandidates.add(c);
+
+                // 킬러 수로 기록된 칸은 조용한 수라도 가지치지 않고, 대표 조용한 수 자리도 차지하지 않습니다.
+                boolean killer = isKiller(actor.unitClass, cell);
+                if (targets == 0 && safeQuiet != 0 && !killer) {
+                    if (quietCovered || (safeQuiet & Bitboard.bit(cell)) == 0) {
+                        c.set(actor, x, y, 0f, TIER_PRUNED, historyRow[cell]);
+                        pruned++;
+                        continue;
                     }
+                    quietCovered = true;
                 }
+
+                float score = MoveHeuristic.score(weights, boardView, i, cell, targets, damage, strategy) + unitBasePenalty;
+                if (actor != mostVulnerableAlly) score += MoveHeuristic.allySupport(weights, cell, allyCell, targets);
+
+                int tier = TIER_QUIET;
+                if (targets != 0 && hasKillingBlow(targets, damage)) tier = TIER_KILL;
+                else if (targets != 0 && skillReady) tier = TIER_SKILL;
+                else if (killer) tier = TIER_KILLER;
+                c.set(actor, x, y, score, tier, historyRow[cell]);
             }
         }
 
+        lastCandidates = activeCandidates.size;
+        lastPruned = pruned;
+
         if (activeCandidates.size == 0) return null;
-        activeCandidates.sort((c1, c2) -> Float.compare(c2.score, c1.score));
-        int poolLimit = Math.min(activeCandidates.size, 3);
-        return activeCandidates.get(MathUtils.random(0, poolLimit - 1));
+        // 정렬 순서는 탐색 순서(move ordering)로 사용됩니다. 좋은 수를 먼저 볼수록 가지치기가 많이 일어납니다.
+        activeCandidates.sort(AILogic::compareCandidates);
+        return activeCandidates.get(0);
     }
 
-    private static float calculateFinalScore(Unit actor, int tx, int ty, Array<Unit> units, String aiTeam, String strategy) {
-        float score = 0f;
-        SkillData.Skill mySkill = SkillData.get(actor.stat.skillName());
-        int halfBoard = GameConfig.BOARD_HEIGHT / 2;
-        boolean isOwnTerritory = ty >= halfBoard;
+    private static int compareCandidates(MoveCandidate c1, MoveCandidate c2) {
+        if (c1.tier != c2.tier) return Integer.compare(c1.tier, c2.tier);
+        int byScore = Float.compare(c2.score, c1.score);
+        return byScore != 0 ? byScore : Integer.compare(c2.history, c1.history);
+    }
 
-        float potentialDamageTaken = 0;
-        int threatCount = 0;
+    private boolean hasKillingBlow(long targets, int damage) {
+        while (targets != 0) {
+            Unit enemy = unitOnCell[Long.numberOfTrailingZeros(targets)];
+            targets &= targets - 1;
+            if (enemy.currentHp() <= damage) return true;
+        }
+        return false;
+    }
 
-        // 인덱스 루프 사용
+    /**
+     * [메서드 설명] 현재 유닛 배치를 위협 지도가 켜진 BattleState 로 옮기고, 칸 -> 유닛 조회표를 채웁니다.
+     * 이후 이 턴의 모든 후보 평가는 boardView 만 읽습니다.
+     */
+    private void buildBoardView(Array<Unit> units, String aiTeam) {
+        String playerTeam = Team.of(aiTeam).opponent().name();
+        boardView = BattleState.fromUnits(units, playerTeam, aiTeam);
+        boardView.enableThreatMap();
+        Arrays.fill(unitOnCell, null);
         for (int i = 0; i < units.size; i++) {
-            Unit enemy = units.get(i);
-            if (enemy == null || !enemy.isAlive() || aiTeam.equals(enemy.team)) continue;
-
-            int distToMe = Math.abs(tx - enemy.gridX) + Math.abs(ty - enemy.gridY);
-            if (distToMe <= (enemy.stat.move() + enemy.stat.range())) {
-                threatCount++;
-                potentialDamageTaken += enemy.stat.atk();
-            }
-
-            float targetValue = (enemy.unitClass == Unit.UnitClass.HERO) ? 15000f : 8000f;
-            if (strategy.equals("ASSASSIN") && enemy.unitClass == Unit.UnitClass.HERO) targetValue += 10000f;
-
-            if (canHit(mySkill, tx, ty, enemy.gridX, enemy.gridY, actor.stat.range())) {
-                score += targetValue;
-                if (enemy.currentHp <= (int)(actor.getPower(true) * mySkill.power)) score += 20000f;
-            }
+            if (boardView.isAlive(i)) unitOnCell[boardView.cellOfUnit(i)] = units.get(i);
         }
+    }
 
-        if (threatCount >= 2) score += strategy.equals("ASSASSIN") ? -40000f : -100000f;
-        if (!isOwnTerritory) score += (actor.unitClass == Unit.UnitClass.HERO) ? -120000f : -40000f;
-
-        float survivalWeight = strategy.equals("DEFENSIVE") ? 20f : 8f;
-        score -= (potentialDamageTaken * survivalWeight);
+    private static int enemyTeamOf(Unit unit) {
+        return unit.side.opponent().index();
+    }
 
-        return score * DIFFICULTY_FACTOR;
+    private boolean canHitEnemyFrom(Unit actor, int tx, int ty) {
+        SkillData.Skill skill = SkillData.byId(actor.skillId);
+        return (hitMask(skill, tx, ty, actor.stat.range()) & boardView.teamCells[enemyTeamOf(actor)]) != 0;
     }
 
-    private static boolean canHitEnemyFrom(Unit actor, int tx, int ty, Array<Unit> units) {
-        SkillData.Skill skill = SkillData.get(actor.stat.skillName());
-        for (int i = 0; i < units.size; i++) {
-            Unit enemy = units.get(i);
-            if (enemy != null && enemy.isAlive() && !enemy.team.equals(actor.team)) {
-                if (canHit(skill, tx, ty, enemy.gridX, enemy.gridY, actor.stat.range())) return true;
-            }
-        }
-        return false;
+    // 권능 적중 범위는 MoveTables 조회표에서 칸 집합으로 가져옵니다. (자기 칸 제외)
+    private static long hitMask(SkillData.Skill skill, int cx, int cy, int unitRange) {
+        int effectiveRange = Math.max(skill.range, unitRange);
+        return MoveTables.skillHitMask(skill.shape, effectiveRange, BattleState.cellOf(cx, cy));
     }
 
     private static boolean canHit(SkillData.Skill skill, int cx, int cy, int tx, int ty, int unitRange) {
-        int dx = Math.abs(cx - tx);
-        int dy = Math.abs(cy - ty);
-        int dist = dx + dy;
-        int effectiveRange = Math.max(skill.range, unitRange);
-        if (dist == 0 || dist > effectiveRange) return false;
-        switch (skill.shape) {
-            case CROSS: case LINE: return (dx == 0 || dy == 0);
-            case SQUARE: return (dx <= effectiveRange && dy <= effectiveRange);
-            default: return dist <= effectiveRange;
-        }
+        return (hitMask(skill, cx, cy, unitRange) & Bitboard.bit(tx, ty)) != 0;
     }
 
-    private static boolean isUnitUnderThreat(Unit unit, Array<Unit> units, String aiTeam) {
-        for (int i = 0; i < units.size; i++) {
-            Unit enemy = units.get(i);
-            if (enemy != null && enemy.isAlive() && !enemy.team.equals(aiTeam)) {
-                int dist = Math.abs(enemy.gridX - unit.gridX) + Math.abs(enemy.gridY - unit.gridY);
-                if (dist <= (enemy.stat.move() + enemy.stat.range())) return true;
-            }
-        }
-        return false;
+    private boolean isUnitUnderThreat(Unit unit) {
+        return boardView.threats.isThreatened(enemyTeamOf(unit), BattleState.cellOf(unit.gridX(), unit.gridY()));
     }
 
     private static void checkAndReserveSkill(Unit actor, int tx, int ty, Array<Unit> units) {
-        SkillData.Skill skill = SkillData.get(actor.stat.skillName());
+        SkillData.Skill skill = SkillData.byId(actor.skillId);
         for (int i = 0; i < units.size; i++) {
             Unit enemy = units.get(i);
-            if (enemy != null && enemy.isAlive() && !enemy.team.equals(actor.team)) {
-                if (canHit(skill, tx, ty, enemy.gridX, enemy.gridY, actor.stat.range())) {
-                    actor.stat.setReservedSkill(actor.stat.skillName());
+            if (enemy != null && enemy.isAlive() && enemy.side != actor.side) {
+                if (canHit(skill, tx, ty, enemy.gridX(), enemy.gridY(), actor.stat.range())) {
+                    actor.stat.setReservedSkill(skill.name);
                     break;
                 }
             }
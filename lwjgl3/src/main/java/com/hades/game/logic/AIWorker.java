@@ -0,0 +1,125 @@
+package com.hades.game.logic;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.hades.game.entities.Unit;
+import com.hades.game.logic.sim.BattleState;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Chess Olympus: HADES vs ZEUS - AI 탐색을 렌더 스레드 밖(전용 작업 스레드)에서 수행하는 작업자
+// 렌더 루프는 매 프레임 poll()로 결과를 확인만 하므로, 탐색이 길어져도 애니메이션이 멈추지 않습니다.
+public class AIWorker implements Disposable {
+    // 탐색이 빨리 끝나도 AI가 최소 이 시간(초)은 "생각"한 뒤 움직입니다. (연출용)
+    public static final float MIN_THINK_TIME = 1.0f;
+    // 예측 탐색이 적중하면 답이 이미 있으므로 공격 연출이 보일 정도만 기다립니다.
+    public static final float PONDER_HIT_THINK_TIME = 0.3f;
+
+    private final AILogic ai;
+    private final ExecutorService executor;
+    private Future<AILogic.TurnPlan> pending;
+    private boolean thinking = false;
+    private float thinkTime = 0;
+    private float requiredThinkTime = MIN_THINK_TIME;
+
+    // 플레이어 차례의 예측 탐색 (같은 작업 스레드에서 실행되므로 본 탐색과 겹치지 않습니다)
+    private Future<?> ponderTask;
+    private boolean ponderedThisTurn = false;
+
+    public AIWorker(AILogic ai) {
+        this.ai = ai;
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "hades-ai");
+            t.setDaemon(true); // 게임 종료 시 JVM 종료를 막지 않도록 합니다.
+            return t;
+        });
+    }
+
+    public boolean isThinking() {
+        return thinking;
+    }
+
+    /**
+     * [메서드 설명] AI 턴 계산을 시작합니다.
+     * 스냅샷은 렌더 스레드에서 만들고, 탐색만 작업 스레드로 넘깁니다.
+     */
+    public void start(Array<Unit> units, String aiTeam) {
+        cancel();
+        AILogic.TurnPlan plan = ai.prepareTurn(units, aiTeam);
+        pending = executor.submit(() -> ai.searchTurn(plan));
+        thinking = true;
+        thinkTime = 0;
+        requiredThinkTime = (plan != null && plan.isPonderHit()) ? PONDER_HIT_THINK_TIME : MIN_THINK_TIME;
+    }
+
+    /**
+     * [메서드 설명] 플레이어 차례가 시작되면 한 번 호출: 플레이어의 예상 응수에 대한 답을 작업 스레드에서 미리 찾습니다.
+     * 이미 이번 차례에 시작했다면 아무것도 하지 않습니다.
+     */
+    public void startPondering(Array<Unit> units, String aiTeam) {
+        if (ponderedThisTurn || thinking) return;
+        ponderedThisTurn = true;
+        BattleState playerRoot = ai.preparePonder(units, aiTeam);
+        if (playerRoot == null) return;
+        ponderTask = executor.submit(() -> ai.ponder(playerRoot));
+    }
+
+    // 플레이어가 수를 두는 순간 호출: 예측 탐색을 멈춥니다. 찾아 둔 답은 다음 AI 턴에 사용됩니다.
+    public void stopPondering() {
+        ai.stopPonder();
+        ponderTask = null;
+    }
+
+    /**
+     * [메서드 설명] 매 프레임 호출: 탐색이 끝났고 최소 생각 시간이 지났으면 true 를 반환합니다.
+     * true 를 받은 뒤 takeResult()로 결과를 가져갑니다.
+     */
+    public boolean poll(float delta) {
+        if (!thinking) return false;
+        thinkTime += delta;
+        return thinkTime >= requiredThinkTime && pending.isDone();
+    }
+
+    // 완료된 계산 결과를 꺼냅니다. 탐색 중 오류가 났다면 null(이동 없이 턴 종료)을 반환합니다.
+    public AILogic.TurnPlan takeResult() {
+        Future<AILogic.TurnPlan> done = pending;
+        pending = null;
+        thinking = false;
+        try {
+            return done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | CancellationException e) {
+            System.err.println("[AI Error] " + e.getMessage());
+        }
+        return null;
+    }
+
+    // 전투 종료/화면 전환 시 호출: 진행 중인 탐색을 멈추고 결과를 버립니다.
+    public void cancel() {
+        stopPondering();
+        ponderedThisTurn = false;
+        if (pending != null) {
+            ai.stopSearch();
+            pending.cancel(true);
+            pending = null;
+        }
+        thinking = false;
+    }
+
+    @Override
+    public void dispose() {
+        cancel();
+        executor.shutdownNow();
+        try {
+            // 탐색 엔진은 공유 자원이므로, 다음 전투가 시작되기 전에 작업 스레드가 확실히 끝나도록 잠시 기다립니다.
+            executor.awaitTermination(200, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.hades.game.logic;
+
+// Chess Olympus: HADES vs ZEUS - 전투 로그 출력 창구
+// 전투 규칙(CombatManager, SkillManager 등)은 이 인터페이스로만 로그를 남기므로, 화면(GameUI) 없이도 실행할 수 있습니다.
+public interface BattleLog {
+    // 그래픽 없이 실행할 때(시뮬레이션, 벤치마크) 사용하는 빈 로그
+    BattleLog NONE = (message, unitTeam, playerTeam) -> { };
+
+    void addLog(String message, String unitTeam, String playerTeam);
+}
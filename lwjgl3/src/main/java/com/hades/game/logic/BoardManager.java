@@ -2,70 +2,79 @@ package com.hades.game.logic;
 
 import com.badlogic.gdx.utils.Array;
 import com.hades.game.entities.Unit;
+import com.hades.game.entities.UnitStore;
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.Bitboard;
+import com.hades.game.logic.sim.MoveTables;
 
 public class BoardManager {
 
+    // 전투 화면의 유닛은 칸별 유닛 표(OccupancyGrid)를 공유하므로 목록을 돌지 않고 바로 찾습니다.
+    // 표가 연결되지 않은 목록(도구 / 테스트용으로 만든 유닛)은 예전처럼 목록을 순회합니다.
+    private static OccupancyGrid gridOf(Array<Unit> units) {
+        return units.size > 0 ? units.first().getGrid() : null;
+    }
+
     public static Unit getUnitAt(Array<Unit> units, int x, int y) {
+        OccupancyGrid grid = gridOf(units);
+        if (grid != null) return grid.get(x, y);
         for (Unit unit : units) {
-            if (unit.gridX == x && unit.gridY == y && unit.isAlive()) return unit;
+            if (unit.gridX() == x && unit.gridY() == y && unit.isAlive()) return unit;
         }
         return null;
     }
 
-    public static boolean canMoveTo(Unit unit, int targetX, int targetY, Array<Unit> units) {
-        if (targetX < 0 || targetX >= 7 || targetY < 0 || targetY >= 8) return false;
-        if (getUnitAt(units, targetX, targetY) != null) return false;
-
-        int dx = Math.abs(unit.gridX - targetX);
-        int dy = Math.abs(unit.gridY - targetY);
-
-        // 1. 기병 (KNIGHT): L자 이동 (영웅의 도약 스킬을 병과 로직으로 이전)
-        if (unit.unitClass == Unit.UnitClass.KNIGHT) {
-            return (dx == 2 && dy == 1) || (dx == 1 && dy == 2);
+    // 살아있는 유닛이 차지한 칸들의 비트보드
+    public static long occupancy(Array<Unit> units) {
+        OccupancyGrid grid = gridOf(units);
+        if (grid != null) return grid.occupied();
+        long occupied = 0;
+        for (int i = 0; i < units.size; i++) {
+            Unit unit = units.get(i);
+            if (unit.isAlive()) occupied |= Bitboard.bit(unit.gridX(), unit.gridY());
         }
+        return occupied;
+    }
 
-        // 2. 전차병 (CHARIOT): 상하좌우 직선 3칸 이동
-        if (unit.unitClass == Unit.UnitClass.CHARIOT) {
-            boolean isStraight = (dx == 0 || dy == 0);
-            return isStraight && (dx + dy <= 3);
-        }
+    /**
+     * [메서드 설명] 유닛이 이동할 수 있는 빈 칸 전체를 비트보드로 반환합니다.
+     * 기병(KNIGHT)은 L자, 전차병(CHARIOT)은 상하좌우 직선 3칸, 그 외는 이동력 이내 맨해튼 거리입니다.
+     */
+    public static long moveMask(Unit unit, Array<Unit> units) {
+        int cell = unit.gridY() * Bitboard.W + unit.gridX();
+        return MoveTables.moveMask(unit.unitClass, unit.stat.move(), cell) & ~occupancy(units);
+    }
 
-        // 3. 일반 이동 (영웅 및 기타 병과): 맨해튼 거리 기반
-        int distance = dx + dy;
-        return distance <= unit.stat.move();
+    public static boolean canMoveTo(Unit unit, int targetX, int targetY, Array<Unit> units) {
+        if (!Bitboard.inBounds(targetX, targetY)) return false;
+        return (moveMask(unit, units) & Bitboard.bit(targetX, targetY)) != 0;
+    }
+
+    /**
+     * [메서드 설명] 자동 공격이 닿는 칸 전체를 비트보드로 반환합니다.
+     * 기병은 예외적으로 주변 8칸(대각선 포함), 그 외 유닛은 동일 선상(십자 직선)의 사거리 이내 칸입니다.
+     */
+    public static long attackMask(Unit attacker) {
+        int cell = attacker.gridY() * Bitboard.W + attacker.gridX();
+        return MoveTables.attackMask(attacker.unitClass, attacker.stat.range(), cell);
     }
 
     // 공격 사거리
     public static boolean canAttack(Unit attacker, Unit target) {
-        if (target == null || !target.isAlive() || attacker.team.equals(target.team)) return false;
-
-        int dx = Math.abs(attacker.gridX - target.gridX);
-        int dy = Math.abs(attacker.gridY - target.gridY);
-        int dist = dx + dy;
-
-        // 1. 기병 (KNIGHT): 기병은 예외적으로 주변 8칸(대각선 포함)을 모두 타격 (유연성 유지)
-        if (attacker.unitClass == Unit.UnitClass.KNIGHT) {
-            return dx <= 1 && dy <= 1 && dist > 0;
-        }
-
-        // 2. 모든 일반 유닛 및 영웅 (궁병 포함)
-        // [핵심] 동일 선상(X축 또는 Y축이 같음)에 있어야 하며, 거리가 사거리 이내여야 함
-        boolean isStraight = (dx == 0 || dy == 0);
-
-        if (isStraight && dist > 0 && dist <= attacker.stat.range()) {
-            return true;
-        }
-
-        return false;
+        if (target == null || !target.isAlive() || attacker.side == target.side) return false;
+        return (attackMask(attacker) & Bitboard.bit(target.gridX(), target.gridY())) != 0;
     }
 
     // 광역 공격을 위해 주변 모든 적을 반환하는 메서드 추가
+    // 대상 탐색은 공격자의 유닛 저장소(UnitStore)를 slot 순서(= 목록 순서)대로 훑습니다.
     public static Array<Unit> findAllTargetsInRange(Unit attacker, Array<Unit> units) {
         Array<Unit> targets = new Array<>();
-        for (int i = 0; i < units.size; i++) {
-            Unit unit = units.get(i);
-            if (canAttack(attacker, unit)) {
-                targets.add(unit);
+        UnitStore store = attacker.store;
+        int team = store.roster.team[attacker.slot];
+        long mask = attackMask(attacker);
+        for (int i = 0; i < store.size(); i++) {
+            if (store.roster.team[i] != team && store.isAlive(i) && (mask & Bitboard.bit(store.x[i], store.y[i])) != 0) {
+                targets.add(store.unit(i));
             }
         }
         return targets;
@@ -73,48 +82,34 @@ public class BoardManager {
 
     // 게임룰에 따라 사거리 범위 내 타겟 우선순위 설정
     public static Unit findBestTargetInRange(Unit attacker, Array<Unit> units) {
-        Unit bestTarget = null;
+        UnitStore store = attacker.store;
+        BattleRoster roster = store.roster;
+        int a = attacker.slot;
+        int team = roster.team[a];
+        long mask = attackMask(attacker); // 기병은 주변 8칸, 그 외는 십자가 형태
+        int best = -1;
         int minDistance = Integer.MAX_VALUE;
         int minHp = Integer.MAX_VALUE;
         int minCounterAtk = Integer.MAX_VALUE;
 
-        for (int i = 0; i < units.size; i++) {
-            Unit unit = units.get(i);
-
-            // canAttack 내부에서 이미 '십자가 형태'인지 체크함
-            if (unit.isAlive() && !unit.team.equals(attacker.team) && canAttack(attacker, unit)) {
-                int dist = Math.abs(attacker.gridX - unit.gridX) + Math.abs(attacker.gridY - unit.gridY);
-                int currentHp = unit.currentHp;
-                int counterAtk = unit.stat.counterAtk();
-
-                boolean shouldReplace = false;
-                if (bestTarget == null) {
-                    shouldReplace = true;
-                } else {
-                    // 1순위: 가장 가까운 적 (직선 거리 기준)
-                    if (dist < minDistance) {
-                        shouldReplace = true;
-                    } else if (dist == minDistance) {
-                        // 2순위: 체력이 낮은 적
-                        if (currentHp < minHp) {
-                            shouldReplace = true;
-                        } else if (currentHp == minHp) {
-                            // 3순위: 반격 데미지가 낮은 적
-                            if (counterAtk < minCounterAtk) {
-                                shouldReplace = true;
-                            }
-                        }
-                    }
-                }
-
-                if (shouldReplace) {
-                    bestTarget = unit;
-                    minDistance = dist;
-                    minHp = currentHp;
-                    minCounterAtk = counterAtk;
-                }
+        for (int i = 0; i < store.size(); i++) {
+            if (roster.team[i] == team || !store.isAlive(i) || (mask & Bitboard.bit(store.x[i], store.y[i])) == 0) continue;
+            int dist = Math.abs(store.x[a] - store.x[i]) + Math.abs(store.y[a] - store.y[i]);
+            int currentHp = store.hp[i];
+            int counterAtk = roster.counterAtk[i];
+
+            // 1순위: 가장 가까운 적 (직선 거리 기준) / 2순위: 체력이 낮은 적 / 3순위: 반격 데미지가 낮은 적
+            boolean shouldReplace = best < 0
+                || dist < minDistance
+                || (dist == minDistance && (currentHp < minHp || (currentHp == minHp && counterAtk < minCounterAtk)));
+
+            if (shouldReplace) {
+                best = i;
+                minDistance = dist;
+                minHp = currentHp;
+                minCounterAtk = counterAtk;
             }
         }
-        return bestTarget;
+        return best < 0 ? null : store.unit(best);
     }
 }
@@ -3,102 +3,224 @@ package com.hades.game.logic;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.utils.Array;
 import com.hades.game.constants.SkillData;
+import com.hades.game.constants.Team;
 import com.hades.game.entities.Unit;
-import com.hades.game.view.GameUI;
+import com.hades.game.entities.UnitStore;
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.Bitboard;
+import com.hades.game.logic.sim.MoveTables;
+import java.util.Arrays;
 
 // Chess Olympus: HADES vs ZEUS
 // 전투 수치 계산, 자동 공격 순서 관리, 컴뱃 로그 생성을 전담하는 매니저 클래스입니다.
 public class CombatManager {
-    private final GameUI gameUI;
+    private final BattleLog log;
     private final TurnManager turnManager;
     private final String playerTeam;
+    private final Team playerSide;
     private final DeathHandler deathHandler;
 
+    // 자동 공격 판정용 재사용 버퍼 (processAutoAttack 한 번마다 덮어씁니다)
+    private static final int NO_SLOT = -1;
+    private static final int NO_COUNTER = -1;
+    private static final int SKILL_NONE = 0;
+    private static final int SKILL_RESERVED = 1;  // 예약된 권능 (사용 후 소모)
+    private static final int SKILL_SIGNATURE = 2; // 플레이어 진영이 아닌 영웅의 대표 권능
+    private static final int ATTACK_STRIDE = 5;   // 공격자, 대상, 피해, 권능 출처, 반격 피해
+    private final int[] cellSlot = new int[Bitboard.CELLS];
+    private final int[] simHp = new int[BattleRoster.MAX_UNITS];
+    private final int[] knightTargets = new int[8];
+    private int[] attacks = new int[ATTACK_STRIDE * BattleRoster.MAX_UNITS];
+
     // 유닛의 사망 처리를 외부에서 처리할 수 있도록 연결하는 인터페이스입니다.
     public interface DeathHandler {
         void onUnitDeath(Unit target);
     }
 
-    public CombatManager(GameUI gameUI, TurnManager turnManager, String playerTeam, DeathHandler deathHandler) {
-        this.gameUI = gameUI;
+    public CombatManager(BattleLog log, TurnManager turnManager, String playerTeam, DeathHandler deathHandler) {
+        this.log = (log != null) ? log : BattleLog.NONE;
         this.turnManager = turnManager;
         this.playerTeam = playerTeam;
+        this.playerSide = Team.of(playerTeam);
         this.deathHandler = deathHandler;
     }
 
     // 특정 진영의 모든 살아있는 유닛이 사거리 내 적을 자동으로 공격하도록 처리합니다.
+    // 1) 판정: 칸 -> slot 표를 한 번 만들고, 공격자마다 공격 범위 칸만 확인해 (공격자, 대상, 피해, 반격) 을 순서대로 정해 둡니다.
+    //    체력은 사본(simHp)에서 깎으므로 앞선 공격 / 반격으로 쓰러진 유닛은 이후 판정에서 빠집니다.
+    // 2) 적용: 정해 둔 순서대로 연출 / 로그 / 사망 처리를 실행합니다.
+    // 공격 순서는 slot(= 목록) 순서, 동점 대상은 앞 slot 이 우선이라 예전의 유닛별 전체 순회와 결과가 같습니다.
     public void processAutoAttack(Array<Unit> units, String team) {
-        for (int i = 0; i < units.size; i++) {
-            Unit attacker = units.get(i);
-            if (attacker != null && attacker.isAlive() && attacker.team.equals(team)) {
-                if (attacker.unitClass == Unit.UnitClass.KNIGHT) {
-                    Array<Unit> targets = BoardManager.findAllTargetsInRange(attacker, units);
-                    for (int j = 0; j < targets.size; j++) {
-                        performAttack(attacker, targets.get(j));
+        UnitStore store = UnitStore.of(units);
+        if (store == null) return;
+        int count = resolveAutoAttacks(store, BattleRoster.teamIndex(team));
+        for (int e = 0; e < count; e += ATTACK_STRIDE) {
+            applyAttack(store.unit(attacks[e]), store.unit(attacks[e + 1]), attacks[e + 2], attacks[e + 3], attacks[e + 4]);
+        }
+        processAutoHeal(units, team);
+    }
+
+    /**
+     * [메서드 설명] 자동 공격 판정: attacks 버퍼에 (공격자 slot, 대상 slot, 피해, 권능 출처, 반격 피해) 를 채우고 사용한 길이를 반환합니다.
+     * 버퍼는 재사용하며 모자랄 때만 늘립니다.
+     */
+    private int resolveAutoAttacks(UnitStore store, int teamIdx) {
+        BattleRoster roster = store.roster;
+        int n = store.size();
+        Arrays.fill(cellSlot, NO_SLOT);
+        for (int i = 0; i < n; i++) {
+            simHp[i] = store.isAlive(i) ? store.hp[i] : 0;
+            if (simHp[i] > 0 && Bitboard.inBounds(store.x[i], store.y[i])) cellSlot[store.y[i] * Bitboard.W + store.x[i]] = i;
+        }
+
+        int count = 0;
+        for (int a = 0; a < n; a++) {
+            if (roster.team[a] != teamIdx || simHp[a] <= 0) continue;
+            long inRange = MoveTables.attackMask(roster.unitClass[a], roster.range[a], store.y[a] * Bitboard.W + store.x[a]);
+
+            if (roster.unitClass[a] == Unit.UnitClass.KNIGHT) {
+                // 기병은 주변 8칸의 모든 적을 slot 순서대로 공격합니다. (대상은 공격 전에 정합니다)
+                int k = 0;
+                for (long m = inRange; m != 0; m &= m - 1) {
+                    int t = cellSlot[Long.numberOfTrailingZeros(m)];
+                    if (t == NO_SLOT || simHp[t] <= 0 || roster.team[t] == teamIdx) continue;
+                    int j = k++;
+                    while (j > 0 && knightTargets[j - 1] > t) {
+                        knightTargets[j] = knightTargets[j - 1];
+                        j--;
                     }
-                } else {
-                    Unit target = BoardManager.findBestTargetInRange(attacker, units);
-                    if (target != null) performAttack(attacker, target);
+                    knightTargets[j] = t;
                 }
+                for (int j = 0; j < k && simHp[a] > 0; j++) count = resolveAttack(store, a, knightTargets[j], count);
+            } else {
+                int t = findBestTarget(store, a, inRange);
+                if (t != NO_SLOT) count = resolveAttack(store, a, t, count);
             }
         }
-        processAutoHeal(units, team);
+        return count;
+    }
+
+    // BoardManager.findBestTargetInRange 와 같은 우선순위: 거리 -> 체력 -> 반격력 -> 앞 slot
+    private int findBestTarget(UnitStore store, int a, long inRange) {
+        BattleRoster roster = store.roster;
+        int best = NO_SLOT;
+        int minDistance = Integer.MAX_VALUE;
+        int minHp = Integer.MAX_VALUE;
+        int minCounterAtk = Integer.MAX_VALUE;
+        for (long m = inRange; m != 0; m &= m - 1) {
+            int t = cellSlot[Long.numberOfTrailingZeros(m)];
+            if (t == NO_SLOT || simHp[t] <= 0 || roster.team[t] == roster.team[a]) continue;
+            int dist = Math.abs(store.x[a] - store.x[t]) + Math.abs(store.y[a] - store.y[t]);
+            int hp = simHp[t];
+            int counterAtk = roster.counterAtk[t];
+            if (best == NO_SLOT || dist < minDistance
+                || (dist == minDistance && (hp < minHp
+                || (hp == minHp && (counterAtk < minCounterAtk || (counterAtk == minCounterAtk && t < best)))))) {
+                best = t;
+                minDistance = dist;
+                minHp = hp;
+                minCounterAtk = counterAtk;
+            }
+        }
+        return best;
+    }
+
+    // 공격 한 번을 사본 체력에 반영하고 버퍼에 기록합니다.
+    private int resolveAttack(UnitStore store, int a, int t, int count) {
+        Unit attacker = store.unit(a);
+        Unit target = store.unit(t);
+        int skillSource = skillSource(attacker);
+        int damage = attackDamage(attacker, skillSource);
+        int counterDamage = NO_COUNTER;
+        simHp[t] = Math.max(0, simHp[t] - damage);
+        if (simHp[t] > 0 && Math.abs(store.x[a] - store.x[t]) + Math.abs(store.y[a] - store.y[t]) <= store.roster.range[t]) {
+            counterDamage = counterDamage(target);
+            simHp[a] = Math.max(0, simHp[a] - counterDamage);
+        }
+
+        if (count + ATTACK_STRIDE > attacks.length) attacks = Arrays.copyOf(attacks, attacks.length * 2);
+        attacks[count] = a;
+        attacks[count + 1] = t;
+        attacks[count + 2] = damage;
+        attacks[count + 3] = skillSource;
+        attacks[count + 4] = counterDamage;
+        return count + ATTACK_STRIDE;
     }
 
     // 공격자와 피격자 간의 실제 데미지 계산 및 로그 전송을 수행합니다.
     public void performAttack(Unit attacker, Unit target) {
         if (attacker == null || target == null || !target.isAlive() || !attacker.isAlive()) return;
 
-        attacker.playAttackAnim(target.gridX, target.gridY);
+        int skillSource = skillSource(attacker);
+        int damage = attackDamage(attacker, skillSource);
+        int counterDamage = (damage < target.currentHp() && target.canReach(attacker)) ? counterDamage(target) : NO_COUNTER;
+        applyAttack(attacker, target, damage, skillSource, counterDamage);
+    }
 
-        boolean isAttackerTurn = turnManager.isMyTurn(attacker.team);
-        int damage = attacker.getPower(isAttackerTurn);
-        float skillMultiplier = 1.0f;
-        String activeSkillName = null;
+    // 영웅의 공격에 붙는 권능: 예약된 권능(1회 소모) > 플레이어 진영이 아닌 영웅의 대표 권능 > 없음
+    private int skillSource(Unit attacker) {
+        if (attacker.unitClass != Unit.UnitClass.HERO) return SKILL_NONE;
+        if (attacker.stat.getReservedSkillId() != SkillData.BASIC_ATTACK_ID) return SKILL_RESERVED;
+        return attacker.side != playerSide ? SKILL_SIGNATURE : SKILL_NONE;
+    }
+
+    // 권능은 id 로 표에서 바로 읽습니다. (예약 권능은 예약할 때, 대표 권능은 유닛 생성 때 id 로 바꿔 둡니다)
+    private SkillData.Skill attackSkill(Unit attacker, int skillSource) {
+        if (skillSource == SKILL_RESERVED) return SkillData.byId(attacker.stat.getReservedSkillId());
+        if (skillSource == SKILL_SIGNATURE) return SkillData.byId(attacker.skillId);
+        return null;
+    }
 
-        if (attacker.unitClass == Unit.UnitClass.HERO) {
-            String reserved = attacker.stat.getReservedSkill();
-            if (reserved != null && !reserved.equals("기본 공격")) {
-                activeSkillName = reserved;
-                skillMultiplier = SkillData.get(activeSkillName).power;
-                sendToUI("[권능] " + attacker.name + " [" + activeSkillName + "]!", attacker.team);
+    private int attackDamage(Unit attacker, int skillSource) {
+        int damage = attacker.getPower(turnManager.isMyTurn(attacker.side));
+        SkillData.Skill skill = attackSkill(attacker, skillSource);
+        float skillMultiplier = skill != null ? skill.power : 1.0f;
+        return (int)(damage * skillMultiplier);
+    }
+
+    private int counterDamage(Unit target) {
+        return target.getPower(turnManager.isMyTurn(target.side));
+    }
+
+    // 판정이 끝난 공격 한 번을 적용합니다: 연출, 권능 소모, 피해 / 반격, 로그, 사망 처리
+    private void applyAttack(Unit attacker, Unit target, int finalDamage, int skillSource, int counterDamage) {
+        attacker.playAttackAnim(target.gridX(), target.gridY());
+
+        SkillData.Skill activeSkill = attackSkill(attacker, skillSource);
+        if (activeSkill != null) {
+            sendToUI("[권능] " + attacker.name + " [" + activeSkill.name + "]!", attacker.team);
+            if (skillSource == SKILL_RESERVED) {
                 attacker.stat.clearReservedSkill();
-                attacker.stat.setSkillUsed(activeSkillName, true);
-            } else if (!attacker.team.equals(playerTeam)) {
-                activeSkillName = attacker.stat.skillName();
-                skillMultiplier = SkillData.get(activeSkillName).power;
-                sendToUI("[권능] " + attacker.name + " [" + activeSkillName + "]!", attacker.team);
+                attacker.stat.setSkillUsed(activeSkill.name, true);
             }
         }
 
-        int finalDamage = (int)(damage * skillMultiplier);
         target.takeDamage(finalDamage, Color.RED);
 
         // 로그 생성 시 "데미지" 키워드 앞에 공백을 주어 GameUI에서 인식하기 쉽게 만듭니다.
-        String logEntry = (activeSkillName != null)
-            ? String.format("%s -> %s [%s] %d 데미지", attacker.name, target.name, activeSkillName, finalDamage)
+        String logEntry = (activeSkill != null)
+            ? String.format("%s -> %s [%s] %d 데미지", attacker.name, target.name, activeSkill.name, finalDamage)
             : String.format("%s -> %s %d 데미지", attacker.name, target.name, finalDamage);
         sendToUI(logEntry, attacker.team);
 
-        if (target.currentHp <= 0) {
-            target.currentHp = 0;
-            target.status = Unit.DEAD;
+        if (target.currentHp() <= 0) {
+            target.setHp(0);
+            target.markDead();
             sendToUI(target.name + " 처치됨!", "SYSTEM");
             deathHandler.onUnitDeath(target);
             return;
         }
 
         // 반격 로직
-        if (target.canReach(attacker)) {
-            target.playAttackAnim(attacker.gridX, attacker.gridY);
-            int counterDamage = target.getPower(turnManager.isMyTurn(target.team));
+        if (counterDamage != NO_COUNTER) {
+            target.playAttackAnim(attacker.gridX(), attacker.gridY());
             attacker.takeDamage(counterDamage, Color.GOLD);
             // 반격 로그에도 "데미지" 키워드 포함
             sendToUI(" > " + target.name + " 반격! " + counterDamage + " 데미지", target.team);
 
-            if (attacker.currentHp <= 0) {
-                attacker.currentHp = 0;
-                attacker.status = Unit.DEAD;
+            if (attacker.currentHp() <= 0) {
+                attacker.setHp(0);
+                attacker.markDead();
                 sendToUI(attacker.name + " 처치됨!", "SYSTEM");
                 deathHandler.onUnitDeath(attacker);
             }
@@ -106,24 +228,24 @@ public class CombatManager {
     }
 
     public void processAutoHeal(Array<Unit> units, String team) {
-        for (int i = 0; i < units.size; i++) {
-            Unit u = units.get(i);
-            if (u.isAlive() && u.team.equals(team) && u.unitClass == Unit.UnitClass.SAINT) {
-                for (int j = 0; j < units.size; j++) {
-                    Unit ally = units.get(j);
-                    if (ally.isAlive() && ally.team.equals(team) && ally != u) {
-                        int dist = Math.abs(u.gridX - ally.gridX) + Math.abs(u.gridY - ally.gridY);
-                        if (dist == 1 && ally.currentHp < ally.stat.hp()) {
-                            ally.currentHp = Math.min(ally.stat.hp(), ally.currentHp + 15);
-                            sendToUI("[치료] " + u.name + " -> " + ally.name + "(+15)", team);
-                        }
-                    }
+        UnitStore store = UnitStore.of(units);
+        if (store == null) return;
+        BattleRoster roster = store.roster;
+        int teamIdx = BattleRoster.teamIndex(team);
+        for (int i = 0; i < store.size(); i++) {
+            if (roster.team[i] != teamIdx || roster.unitClass[i] != Unit.UnitClass.SAINT || !store.isAlive(i)) continue;
+            for (int j = 0; j < store.size(); j++) {
+                if (j == i || roster.team[j] != teamIdx || !store.isAlive(j)) continue;
+                int dist = Math.abs(store.x[i] - store.x[j]) + Math.abs(store.y[i] - store.y[j]);
+                if (dist == 1 && store.hp[j] < roster.maxHp[j]) {
+                    store.hp[j] = Math.min(roster.maxHp[j], store.hp[j] + 15);
+                    sendToUI("[치료] " + store.unit(i).name + " -> " + store.unit(j).name + "(+15)", team);
                 }
             }
         }
     }
 
     private void sendToUI(String msg, String team) {
-        gameUI.addLog(msg, team, playerTeam);
+        log.addLog(msg, team, playerTeam);
     }
 }
@@ -0,0 +1,70 @@
+package com.hades.game.logic;
+
+import com.badlogic.gdx.utils.Array;
+import com.hades.game.entities.Unit;
+import com.hades.game.logic.sim.Bitboard;
+import java.util.Arrays;
+
+// Chess Olympus: HADES vs ZEUS - 전장 칸별 유닛 표 (화면용 Unit 목록의 점유 상태)
+// 칸 -> 유닛 배열과 점유 비트보드를 함께 들고 있어, 칸 조회와 빈 칸 계산이 유닛 목록을 돌지 않고 O(1) 입니다.
+// 유닛이 attach 된 뒤에는 Unit.setPosition / Unit.markDead 가 직접 갱신하고, 유닛 필드를 한꺼번에 되돌리는 경우(TurnHistory)는 rebuild 로 다시 만듭니다.
+public final class OccupancyGrid {
+    private final Unit[] cells = new Unit[Bitboard.CELLS];
+    private long occupied = 0;
+
+    /**
+     * [메서드 설명] 목록의 유닛들을 이 표에 연결하고 살아 있는 유닛으로 표를 채웁니다.
+     */
+    public void attach(Array<Unit> units) {
+        for (int i = 0; i < units.size; i++) units.get(i).setGrid(this);
+        rebuild(units);
+    }
+
+    public void rebuild(Array<Unit> units) {
+        Arrays.fill(cells, null);
+        occupied = 0;
+        for (int i = 0; i < units.size; i++) {
+            Unit u = units.get(i);
+            if (u.isAlive()) place(u);
+        }
+    }
+
+    public void place(Unit u) {
+        if (!Bitboard.inBounds(u.gridX(), u.gridY())) return;
+        int cell = u.gridY() * Bitboard.W + u.gridX();
+        cells[cell] = u;
+        occupied |= Bitboard.bit(cell);
+    }
+
+    public void remove(Unit u) {
+        if (!Bitboard.inBounds(u.gridX(), u.gridY())) return;
+        int cell = u.gridY() * Bitboard.W + u.gridX();
+        if (cells[cell] != u) return;
+        cells[cell] = null;
+        occupied &= ~Bitboard.bit(cell);
+    }
+
+    // 유닛이 (fromX, fromY) 에서 현재 위치로 옮겨진 뒤 호출됩니다.
+    public void move(Unit u, int fromX, int fromY) {
+        if (Bitboard.inBounds(fromX, fromY)) {
+            int from = fromY * Bitboard.W + fromX;
+            if (cells[from] == u) {
+                cells[from] = null;
+                occupied &= ~Bitboard.bit(from);
+            }
+        }
+        if (u.isAlive()) place(u);
+    }
+
+    // 칸의 살아 있는 유닛 (없으면 null)
+    public Unit get(int x, int y) {
+        if (!Bitboard.inBounds(x, y)) return null;
+        Unit u = cells[y * Bitboard.W + x];
+        return u != null && u.isAlive() ? u : null;
+    }
+
+    // 살아 있는 유닛이 차지한 칸들의 비트보드
+    public long occupied() {
+        return occupied;
+    }
+}
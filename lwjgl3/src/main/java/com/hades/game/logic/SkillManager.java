@@ -3,34 +3,31 @@ package com.hades.game.logic;
 import com.badlogic.gdx.utils.Array;
 import com.hades.game.constants.SkillData;
 import com.hades.game.entities.Unit;
-import com.hades.game.view.GameUI;
-import com.hades.game.screens.BattleScreen;
+import com.hades.game.entities.UnitStore;
 
 // SkillManager: 모든 권능(스킬)의 실행, 효과 판정, 상태 변화를 관리하는 통합 클래스
 public class SkillManager {
 
-    // 메인 실행부: 애니메이션 트리거와 함께 스킬 효과를 집행
-    public static void executeSkill(Unit caster, String skillName, Array<Unit> units, GameUI gameUI, String playerTeam, Object screenObj) {
+    // 메인 실행부: 애니메이션 트리거와 함께 스킬 효과를 집행 (skillId 는 SkillData id)
+    public static void executeSkill(Unit caster, int skillId, Array<Unit> units, BattleLog log, String playerTeam, CombatManager.DeathHandler onDeath) {
+        SkillData.Skill data = SkillData.byId(skillId);
+        String skillName = data.name;
         // 이미 사용한 스킬인지 체크 (1회성 권능 제한)
         if (caster.team.equals(playerTeam) && !caster.stat.isSkillReady(skillName)) return;
 
-        SkillData.Skill data = SkillData.get(skillName);
-        if (data == null) return;
+        if (log == null) log = BattleLog.NONE;
 
-        gameUI.addLog("권능 해방!! [" + skillName + "]", caster.team, playerTeam);
+        log.addLog("권능 해방!! [" + skillName + "]", caster.team, playerTeam);
 
         // 1. [특수 효과 사전 처리] 시전자 본인에게 적용되는 버프 등
-        applyCasterBuff(caster, skillName, gameUI, playerTeam);
-
-        // 2. [타겟팅 및 실행] 스킬 타입별 분기
-        if (skillName.equals("심판의 번개")) {
-            executeJudgmentLightning(caster, data, units, gameUI, playerTeam, screenObj);
-        } else if (isHealSkill(skillName)) {
-            executeHealSkill(caster, data, units, gameUI, playerTeam);
-        } else if (data.shape == SkillData.Shape.LINE) {
-            executeLineSkill(caster, data, units, gameUI, playerTeam, screenObj);
-        } else {
-            executeAreaSkill(caster, data, units, gameUI, playerTeam, screenObj);
+        applyCasterBuff(caster, data, log, playerTeam);
+
+        // 2. [타겟팅 및 실행] 스킬 타입별 분기 (효과 종류는 SkillData 등록 시 정해 둡니다)
+        switch (data.effect) {
+            case JUDGMENT: executeJudgmentLightning(caster, data, units, log, playerTeam, onDeath); break;
+            case HEAL: executeHealSkill(caster, data, units, log, playerTeam); break;
+            case LINE: executeLineSkill(caster, data, units, log, playerTeam, onDeath); break;
+            default: executeAreaSkill(caster, data, units, log, playerTeam, onDeath); break;
         }
 
         // 3. [소모 처리] 사용 완료 후 기록
@@ -39,105 +36,109 @@ public class SkillManager {
     }
 
     // 시전자 본인 버프 (아테나 방벽 등 설명에 따른 특수 구현)
-    private static void applyCasterBuff(Unit caster, String skillName, GameUI ui, String pt) {
-        if (skillName.equals("전략적 방벽")) {
-            // 아테나: 최대 체력의 20%만큼 보호막(현재 체력 증가) 부여
-            int shieldAmount = (int)(caster.stat.hp() * 0.2f);
-            caster.currentHp += shieldAmount;
-            ui.addLog(caster.name + "가 성스러운 방벽을 세웠습니다! (보호막 +" + shieldAmount + ")", caster.team, pt);
+    private static void applyCasterBuff(Unit caster, SkillData.Skill data, BattleLog log, String pt) {
+        if (data.shieldRatio > 0) {
+            // 아테나(전략적 방벽): 최대 체력의 20%만큼 보호막(현재 체력 증가) 부여
+            int shieldAmount = (int)(caster.stat.hp() * data.shieldRatio);
+            caster.setHp(caster.currentHp() + shieldAmount);
+            log.addLog(caster.name + "가 성스러운 방벽을 세웠습니다! (보호막 +" + shieldAmount + ")", caster.team, pt);
         }
     }
 
     // 제우스 전용: 심판의 번개 (전체 범위 중 최저 체력 저격)
-    private static void executeJudgmentLightning(Unit caster, SkillData.Skill data, Array<Unit> units, GameUI ui, String pt, Object screen) {
-        Unit target = null;
+    // 이하 대상 탐색은 시전자의 유닛 저장소(UnitStore)를 slot 순서(= 목록 순서)대로 훑습니다.
+    private static void executeJudgmentLightning(Unit caster, SkillData.Skill data, Array<Unit> units, BattleLog log, String pt, CombatManager.DeathHandler onDeath) {
+        UnitStore store = caster.store;
+        int team = store.roster.team[caster.slot];
+        int target = -1;
         int minHp = Integer.MAX_VALUE;
-        for (Unit u : units) {
-            if (u.isAlive() && !u.team.equals(caster.team) && u.currentHp < minHp) {
-                minHp = u.currentHp;
-                target = u;
+        for (int i = 0; i < store.size(); i++) {
+            if (store.roster.team[i] != team && store.isAlive(i) && store.hp[i] < minHp) {
+                minHp = store.hp[i];
+                target = i;
             }
         }
-        if (target != null) {
-            target.playHitAnim();
-            applyEffect(target, (int)(caster.stat.atk() * data.power), false, ui, caster.team, pt, screen, data.name);
+        if (target >= 0) {
+            Unit t = store.unit(target);
+            t.playHitAnim();
+            applyEffect(t, (int)(caster.stat.atk() * data.power), false, log, caster.team, pt, onDeath, data);
         }
     }
 
     // 아군 치유 스킬 (매혹의 향기, 올림푸스의 가호 등)
-    private static void executeHealSkill(Unit caster, SkillData.Skill data, Array<Unit> units, GameUI ui, String pt) {
-        for (Unit u : units) {
-            if (u.isAlive() && u.team.equals(caster.team)) {
-                if (checkShape(caster, u, data)) {
-                    applyEffect(u, (int)(caster.stat.atk() * data.power), true, ui, caster.team, pt, null, data.name);
-                    if (!data.isAoE) return;
-                }
+    private static void executeHealSkill(Unit caster, SkillData.Skill data, Array<Unit> units, BattleLog log, String pt) {
+        UnitStore store = caster.store;
+        int team = store.roster.team[caster.slot];
+        for (int i = 0; i < store.size(); i++) {
+            if (store.roster.team[i] == team && store.isAlive(i) && checkShape(store, caster.slot, i, data)) {
+                applyEffect(store.unit(i), (int)(caster.stat.atk() * data.power), true, log, caster.team, pt, null, data);
+                if (!data.isAoE) return;
             }
         }
     }
 
     // 일직선 공격 스킬 (그림자 습격, 달빛의 추격)
-    private static void executeLineSkill(Unit caster, SkillData.Skill data, Array<Unit> units, GameUI ui, String pt, Object screen) {
-        for (Unit u : units) {
-            if (u.isAlive() && !u.team.equals(caster.team)) {
-                int dx = Math.abs(caster.gridX - u.gridX);
-                int dy = Math.abs(caster.gridY - u.gridY);
-                if ((dx == 0 || dy == 0) && (dx + dy <= data.range)) {
-                    caster.playAttackAnim(u.gridX, u.gridY);
-                    applyEffect(u, (int)(caster.stat.atk() * data.power), false, ui, caster.team, pt, screen, data.name);
-                    if (!data.isAoE) return;
-                }
+    private static void executeLineSkill(Unit caster, SkillData.Skill data, Array<Unit> units, BattleLog log, String pt, CombatManager.DeathHandler onDeath) {
+        UnitStore store = caster.store;
+        int c = caster.slot;
+        int team = store.roster.team[c];
+        for (int i = 0; i < store.size(); i++) {
+            if (store.roster.team[i] == team || !store.isAlive(i)) continue;
+            int dx = Math.abs(store.x[c] - store.x[i]);
+            int dy = Math.abs(store.y[c] - store.y[i]);
+            if ((dx == 0 || dy == 0) && (dx + dy <= data.range)) {
+                caster.playAttackAnim(store.x[i], store.y[i]);
+                applyEffect(store.unit(i), (int)(caster.stat.atk() * data.power), false, log, caster.team, pt, onDeath, data);
+                if (!data.isAoE) return;
             }
         }
     }
 
     // 일반 범위기 (대지의 분노, 여왕의 권위, 지옥의 숨결 등)
-    private static void executeAreaSkill(Unit caster, SkillData.Skill data, Array<Unit> units, GameUI ui, String pt, Object screen) {
-        for (Unit u : units) {
-            if (u.isAlive() && !u.team.equals(caster.team)) {
-                if (checkShape(caster, u, data)) {
-                    caster.playAttackAnim(u.gridX, u.gridY);
-                    applyEffect(u, (int)(caster.stat.atk() * data.power), false, ui, caster.team, pt, screen, data.name);
-                    if (!data.isAoE) return;
-                }
+    private static void executeAreaSkill(Unit caster, SkillData.Skill data, Array<Unit> units, BattleLog log, String pt, CombatManager.DeathHandler onDeath) {
+        UnitStore store = caster.store;
+        int team = store.roster.team[caster.slot];
+        for (int i = 0; i < store.size(); i++) {
+            if (store.roster.team[i] != team && store.isAlive(i) && checkShape(store, caster.slot, i, data)) {
+                caster.playAttackAnim(store.x[i], store.y[i]);
+                applyEffect(store.unit(i), (int)(caster.stat.atk() * data.power), false, log, caster.team, pt, onDeath, data);
+                if (!data.isAoE) return;
             }
         }
     }
 
     // 최종 효과 적용 및 사망 판정 연동
-    private static void applyEffect(Unit t, int val, boolean heal, GameUI ui, String ct, String pt, Object screen, String skillName) {
+    private static void applyEffect(Unit t, int val, boolean heal, BattleLog log, String ct, String pt, CombatManager.DeathHandler onDeath, SkillData.Skill data) {
         if (heal) {
             // 치유: 설명에 맞춰 최대 체력을 약간 넘길 수 있도록 보정
-            t.currentHp = Math.min(t.stat.hp() + 100, t.currentHp + val);
-            ui.addLog(t.name + " 체력 " + val + " 회복", ct, pt);
+            t.setHp(Math.min(t.stat.hp() + 100, t.currentHp() + val));
+            log.addLog(t.name + " 체력 " + val + " 회복", ct, pt);
         } else {
             t.playHitAnim();
 
             // 상태 이상 효과 예시: 여왕의 권위 사용 시 추가 압박 피해
             int finalDamage = val;
-            if (skillName.equals("여왕의 권위")) {
-                ui.addLog(t.name + "가 여왕의 위엄에 압도되었습니다!", ct, pt);
-                finalDamage += 20;
+            if (data.bonusDamage > 0) {
+                log.addLog(t.name + "가 여왕의 위엄에 압도되었습니다!", ct, pt);
+                finalDamage += data.bonusDamage;
             }
 
-            t.currentHp -= finalDamage;
-            ui.addLog(t.name + "에게 " + finalDamage + " 피해", ct, pt);
+            t.setHp(t.currentHp() - finalDamage);
+            log.addLog(t.name + "에게 " + finalDamage + " 피해", ct, pt);
 
-            if (t.currentHp <= 0) {
-                t.currentHp = 0;
-                t.status = Unit.DEAD;
+            if (t.currentHp() <= 0) {
+                t.setHp(0);
+                t.markDead();
                 // 영웅 사망 시 즉시 게임 오버 시퀀스 트리거
-                if (screen instanceof BattleScreen) {
-                    ((BattleScreen) screen).handleDeath(t);
-                }
+                if (onDeath != null) onDeath.onUnitDeath(t);
             }
         }
     }
 
     // 기하학적 범위 판정 유틸리티
-    private static boolean checkShape(Unit c, Unit t, SkillData.Skill data) {
-        int dx = Math.abs(c.gridX - t.gridX);
-        int dy = Math.abs(c.gridY - t.gridY);
+    private static boolean checkShape(UnitStore store, int c, int t, SkillData.Skill data) {
+        int dx = Math.abs(store.x[c] - store.x[t]);
+        int dy = Math.abs(store.y[c] - store.y[t]);
         int dist = dx + dy;
         switch (data.shape) {
             case CROSS: return (dx == 0 || dy == 0) && dist <= data.range;
@@ -147,7 +148,7 @@ public class SkillManager {
         }
     }
 
-    private static boolean isHealSkill(String name) {
-        return name.contains("치유") || name.contains("향기") || name.contains("가호");
+    public static boolean isHealSkill(String name) {
+        return SkillData.get(name).effect == SkillData.Effect.HEAL;
     }
 }
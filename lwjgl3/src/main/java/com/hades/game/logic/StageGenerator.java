@@ -1,45 +1,86 @@
 package com.hades.game.logic;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import com.hades.game.constants.GameConfig;
+import com.hades.game.constants.Team;
 import com.hades.game.constants.UnitData;
 import com.hades.game.entities.Unit;
+import com.hades.game.entities.UnitStore;
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.BattleState;
 
 // Chess Olympus: HADES vs ZEUS - 스테이지 생성기
+// 배치(layout)는 그래픽 자원 없이 계산되므로, 화면용 Unit 목록과 탐색/벤치마크용 BattleState 양쪽에서 같은 배치를 사용합니다.
 public class StageGenerator {
 
+    // [설명] 유닛 한 명의 배치 정보 (텍스처를 로드하지 않는 순수 데이터)
+    public record Spawn(String name, String team, UnitData.Stat stat, String imageKey, Unit.UnitClass unitClass, int x, int y) { }
+
     public static Array<Unit> create(int stageLevel, String playerTeam, String heroName, UnitData.Stat heroStat) {
-        Array<Unit> units = new Array<>();
-        String aiTeam = playerTeam.equals("HADES") ? "ZEUS" : "HADES";
+        Array<Spawn> spawns = layout(stageLevel, playerTeam, heroName, heroStat);
+        Array<Unit> units = new Array<>(spawns.size);
+        UnitStore store = new UnitStore(spawns.size, playerTeam);
+        for (int i = 0; i < spawns.size; i++) {
+            Spawn s = spawns.get(i);
+            units.add(new Unit(store, s.name(), s.team(), s.stat(), s.imageKey(), s.unitClass(), s.x(), s.y()));
+        }
+        return units;
+    }
+
+    /**
+     * [메서드 설명] 같은 배치를 그래픽 없이 전투 국면(BattleState)으로 만듭니다.
+     * 유닛 인덱스는 create() 가 돌려주는 목록의 순서와 같습니다.
+     */
+    public static BattleState createState(int stageLevel, String playerTeam, String heroName, UnitData.Stat heroStat) {
+        Array<Spawn> spawns = layout(stageLevel, playerTeam, heroName, heroStat);
+        BattleRoster roster = new BattleRoster(spawns.size, BattleRoster.teamIndex(playerTeam));
+        for (int i = 0; i < spawns.size; i++) {
+            Spawn s = spawns.get(i);
+            roster.add(s.name(), BattleRoster.teamIndex(s.team()), s.unitClass(), s.stat());
+        }
+
+        BattleState state = new BattleState(roster);
+        for (int i = 0; i < spawns.size; i++) {
+            state.x[i] = spawns.get(i).x();
+            state.y[i] = spawns.get(i).y();
+            state.hp[i] = roster.maxHp[i];
+        }
+        state.sideToMove = BattleRoster.teamIndex(playerTeam); // 전투는 항상 플레이어 턴으로 시작합니다.
+        state.rebuildDerivedData();
+        return state;
+    }
+
+    public static Array<Spawn> layout(int stageLevel, String playerTeam, String heroName, UnitData.Stat heroStat) {
+        Array<Spawn> spawns = new Array<>();
+        String aiTeam = Team.of(playerTeam).opponent().name();
 
         // 1. 플레이어 유닛 배치
-        setupPlayerUnits(units, playerTeam, heroName, heroStat);
+        setupPlayerUnits(spawns, playerTeam, heroName, heroStat);
 
         // 2. 적군(AI) 유닛 배치
-        setupEnemyUnits(units, aiTeam, stageLevel);
+        setupEnemyUnits(spawns, aiTeam, stageLevel);
 
-        return units;
+        return spawns;
     }
 
-    private static void setupPlayerUnits(Array<Unit> units, String team, String name, UnitData.Stat stat) {
+    private static void setupPlayerUnits(Array<Spawn> spawns, String team, String name, UnitData.Stat stat) {
         // 영웅은 전략적 핵심이므로 항상 중앙 하단 (3, 0) 고정
-        units.add(new Unit(name, team, stat, name, Unit.UnitClass.HERO, 3, 0));
+        spawns.add(new Spawn(name, team, stat, name, Unit.UnitClass.HERO, 3, 0));
 
         // 배치가 가능한 X 좌표 리스트 (영웅 자리인 3을 제외한 0, 1, 2, 4, 5, 6)
         Array<Integer> availableX = new Array<>(new Integer[]{0, 1, 2, 4, 5, 6});
         availableX.shuffle(); // 좌표 리스트를 무작위로 섞음
 
         // 섞인 좌표에 순서대로 일반 병사들 배치
-        units.add(new Unit("기병", team, UnitData.STAT_KNIGHT, UnitData.IMG_KNIGHT, Unit.UnitClass.KNIGHT, availableX.pop(), 0));
-        units.add(new Unit("궁병", team, UnitData.STAT_ARCHER, UnitData.IMG_ARCHER, Unit.UnitClass.ARCHER, availableX.pop(), 0));
-        units.add(new Unit("방패병", team, UnitData.STAT_SHIELD, UnitData.IMG_SHIELD, Unit.UnitClass.SHIELD, availableX.pop(), 0));
-        units.add(new Unit("방패병", team, UnitData.STAT_SHIELD, UnitData.IMG_SHIELD, Unit.UnitClass.SHIELD, availableX.pop(), 0));
-        units.add(new Unit("성녀", team, UnitData.STAT_SAINT, UnitData.IMG_SAINT, Unit.UnitClass.SAINT, availableX.pop(), 0));
-        units.add(new Unit("전차병", team, UnitData.STAT_CHARIOT, UnitData.IMG_CHARIOT, Unit.UnitClass.CHARIOT, availableX.pop(), 0));
+        spawns.add(new Spawn("기병", team, UnitData.STAT_KNIGHT, UnitData.IMG_KNIGHT, Unit.UnitClass.KNIGHT, availableX.pop(), 0));
+        spawns.add(new Spawn("궁병", team, UnitData.STAT_ARCHER, UnitData.IMG_ARCHER, Unit.UnitClass.ARCHER, availableX.pop(), 0));
+        spawns.add(new Spawn("방패병", team, UnitData.STAT_SHIELD, UnitData.IMG_SHIELD, Unit.UnitClass.SHIELD, availableX.pop(), 0));
+        spawns.add(new Spawn("방패병", team, UnitData.STAT_SHIELD, UnitData.IMG_SHIELD, Unit.UnitClass.SHIELD, availableX.pop(), 0));
+        spawns.add(new Spawn("성녀", team, UnitData.STAT_SAINT, UnitData.IMG_SAINT, Unit.UnitClass.SAINT, availableX.pop(), 0));
+        spawns.add(new Spawn("전차병", team, UnitData.STAT_CHARIOT, UnitData.IMG_CHARIOT, Unit.UnitClass.CHARIOT, availableX.pop(), 0));
     }
 
-    private static void setupEnemyUnits(Array<Unit> units, String team, int stageLevel) {
+    private static void setupEnemyUnits(Array<Spawn> spawns, String team, int stageLevel) {
         int enemyRow = GameConfig.BOARD_HEIGHT - 1;
 
         // 적군 진영에 맞는 보스 스탯과 이름 로드
@@ -50,18 +91,18 @@ public class StageGenerator {
         String bossName = enemyHeroNames[bossIdx];
 
         // 적군 보스는 항상 적진 중앙 (3, enemyRow) 고정
-        units.add(new Unit(bossName, team, enemyHeroStats[bossIdx], bossName, Unit.UnitClass.HERO, 3, enemyRow));
+        spawns.add(new Spawn(bossName, team, enemyHeroStats[bossIdx], bossName, Unit.UnitClass.HERO, 3, enemyRow));
 
         // 배치가 가능한 X 좌표 리스트 (보스 자리인 3을 제외)
         Array<Integer> availableX = new Array<>(new Integer[]{0, 1, 2, 4, 5, 6});
         availableX.shuffle(); // 적군 좌표도 무작위로 섞음
 
         // 섞인 좌표에 순서대로 적군 일반병 배치
-        units.add(new Unit("적 궁병", team, UnitData.STAT_ARCHER, UnitData.IMG_ARCHER, Unit.UnitClass.ARCHER, availableX.pop(), enemyRow));
-        units.add(new Unit("적 기병", team, UnitData.STAT_KNIGHT, UnitData.IMG_KNIGHT, Unit.UnitClass.KNIGHT, availableX.pop(), enemyRow));
-        units.add(new Unit("적 방패병", team, UnitData.STAT_SHIELD, UnitData.IMG_SHIELD, Unit.UnitClass.SHIELD, availableX.pop(), enemyRow));
-        units.add(new Unit("적 방패병", team, UnitData.STAT_SHIELD, UnitData.IMG_SHIELD, Unit.UnitClass.SHIELD, availableX.pop(), enemyRow));
-        units.add(new Unit("적 전차병", team, UnitData.STAT_CHARIOT, UnitData.IMG_CHARIOT, Unit.UnitClass.CHARIOT, availableX.pop(), enemyRow));
-        units.add(new Unit("적 성녀", team, UnitData.STAT_SAINT, UnitData.IMG_SAINT, Unit.UnitClass.SAINT, availableX.pop(), enemyRow));
+        spawns.add(new Spawn("적 궁병", team, UnitData.STAT_ARCHER, UnitData.IMG_ARCHER, Unit.UnitClass.ARCHER, availableX.pop(), enemyRow));
+        spawns.add(new Spawn("적 기병", team, UnitData.STAT_KNIGHT, UnitData.IMG_KNIGHT, Unit.UnitClass.KNIGHT, availableX.pop(), enemyRow));
+        spawns.add(new Spawn("적 방패병", team, UnitData.STAT_SHIELD, UnitData.IMG_SHIELD, Unit.UnitClass.SHIELD, availableX.pop(), enemyRow));
+        spawns.add(new Spawn("적 방패병", team, UnitData.STAT_SHIELD, UnitData.IMG_SHIELD, Unit.UnitClass.SHIELD, availableX.pop(), enemyRow));
+        spawns.add(new Spawn("적 전차병", team, UnitData.STAT_CHARIOT, UnitData.IMG_CHARIOT, Unit.UnitClass.CHARIOT, availableX.pop(), enemyRow));
+        spawns.add(new Spawn("적 성녀", team, UnitData.STAT_SAINT, UnitData.IMG_SAINT, Unit.UnitClass.SAINT, availableX.pop(), enemyRow));
     }
 }
@@ -0,0 +1,95 @@
+package com.hades.game.logic;
+
+import com.badlogic.gdx.utils.Array;
+import com.hades.game.entities.Unit;
+
+// Chess Olympus: HADES vs ZEUS - 플레이어 "직전 턴 되돌리기" 기록
+// 플레이어가 수를 두기 직전에 전장 상태를 기록해 두고, 되돌리면 그 수와 이어진 AI 응수를 함께 취소합니다.
+// 유닛별로 위치 / 체력 / 생존 여부 / 권능 사용·장전 상태만 담으며, 쓰러져 목록에서 빠진 유닛도 원래 자리로 복귀시킵니다.
+// (탐색 엔진의 수 되돌리기는 BattleState 에 연결하는 MoveJournal 이 담당합니다)
+public class TurnHistory {
+    private static final int MAX_TURNS = 20;
+
+    // [설명] 유닛 한 명의 기록
+    private static final class UnitRecord {
+        final Unit unit;
+        final int gridX, gridY, currentHp, status;
+        final String reservedSkill;
+        final boolean[] skillReady; // learnedSkills 순서대로의 사용 가능 여부
+
+        UnitRecord(Unit u) {
+            unit = u;
+            gridX = u.gridX();
+            gridY = u.gridY();
+            currentHp = u.currentHp();
+            status = u.status();
+            reservedSkill = u.stat.getReservedSkill();
+            Array<String> skills = u.stat.getLearnedSkills();
+            skillReady = new boolean[skills.size];
+            for (int i = 0; i < skills.size; i++) skillReady[i] = u.stat.isSkillReady(skills.get(i));
+        }
+
+        void restore() {
+            unit.restore(gridX, gridY, currentHp, status);
+            if (reservedSkill != null) unit.stat.setReservedSkill(reservedSkill);
+            else unit.stat.clearReservedSkill();
+            Array<String> skills = unit.stat.getLearnedSkills();
+            for (int i = 0; i < skillReady.length && i < skills.size; i++) unit.stat.setSkillUsed(skills.get(i), !skillReady[i]);
+
+            // 연출 상태는 되돌린 시점에서 새로 시작합니다.
+            unit.damageTexts.clear();
+            unit.animOffset.set(0, 0);
+            unit.hitTimer = 0;
+            unit.visualAlpha = 1.0f;
+            unit.targetAlpha = 1.0f;
+        }
+    }
+
+    // [설명] 한 턴 시작 시점의 기록 (목록 순서 그대로)
+    private static final class TurnRecord {
+        final String turn;
+        final UnitRecord[] units;
+
+        TurnRecord(Array<Unit> units, String turn) {
+            this.turn = turn;
+            this.units = new UnitRecord[units.size];
+            for (int i = 0; i < units.size; i++) this.units[i] = new UnitRecord(units.get(i));
+        }
+    }
+
+    private final Array<TurnRecord> history = new Array<>();
+
+    /**
+     * [메서드 설명] 플레이어가 수를 두기 직전에 호출합니다. 오래된 기록은 MAX_TURNS 개까지만 유지합니다.
+     */
+    public void record(Array<Unit> units, TurnManager turnManager) {
+        if (history.size == MAX_TURNS) history.removeIndex(0);
+        history.add(new TurnRecord(units, turnManager.getCurrentTurn()));
+    }
+
+    public boolean canUndo() {
+        return history.size > 0;
+    }
+
+    /**
+     * [메서드 설명] 가장 최근 기록으로 전장을 되돌립니다. units 목록 자체를 기록 시점의 순서로 다시 채웁니다.
+     */
+    public boolean undo(Array<Unit> units, TurnManager turnManager) {
+        if (history.size == 0) return false;
+        TurnRecord record = history.pop();
+        units.clear();
+        for (UnitRecord r : record.units) {
+            r.restore();
+            units.add(r.unit);
+        }
+        // 위치와 생존 여부를 필드째 되돌렸으므로 칸별 유닛 표도 다시 만듭니다.
+        OccupancyGrid grid = units.size > 0 ? units.first().getGrid() : null;
+        if (grid != null) grid.rebuild(units);
+        turnManager.restoreTurn(record.turn);
+        return true;
+    }
+
+    public void clear() {
+        history.clear();
+    }
+}
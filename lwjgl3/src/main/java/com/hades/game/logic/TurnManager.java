@@ -1,12 +1,13 @@
 package com.hades.game.logic;
 
+import com.hades.game.constants.Team;
 import com.hades.game.screens.BattleScreen;
 import com.hades.game.entities.Unit;
 import com.badlogic.gdx.utils.Array;
 
 // TurnManager: 턴 교체 시 영웅 생존 여부를 전수 조사하여 게임 종료를 판정
 public class TurnManager {
-    private String currentTurn = "HADES";
+    private Team currentTurn = Team.HADES;
     private BattleScreen battleScreen;
 
     public void setBattleScreen(BattleScreen screen) {
@@ -14,11 +15,15 @@ public class TurnManager {
     }
 
     public String getCurrentTurn() {
-        return currentTurn;
+        return currentTurn.name();
     }
 
     public void endTurn() {
-        if (battleScreen == null) return;
+        if (battleScreen == null) {
+            // 화면 없이 실행(시뮬레이션) 중이면 승패 판정은 호출한 쪽에 맡기고 진영만 교체합니다.
+            switchTurn();
+            return;
+        }
 
         // 1. 턴 교체 전 영웅 생존 여부 전수 조사
         Array<Unit> units = battleScreen.getUnits();
@@ -30,8 +35,8 @@ public class TurnManager {
             Unit u = units.get(i);
             if (u.unitClass == Unit.UnitClass.HERO) {
                 if (u.isAlive()) {
-                    if (u.team.equals("ZEUS")) zeusHeroAlive = true;
-                    if (u.team.equals("HADES")) hadesHeroAlive = true;
+                    if (u.side == Team.ZEUS) zeusHeroAlive = true;
+                    if (u.side == Team.HADES) hadesHeroAlive = true;
                 } else {
                     // 리스트에는 있지만 죽은 상태인 영웅을 보관
                     deadHeroCandidate = u;
@@ -60,11 +65,24 @@ public class TurnManager {
         // 3. 게임 오버가 아닐 때만 턴 교체
         if (battleScreen.isGameOver()) return;
 
-        currentTurn = currentTurn.equals("HADES") ? "ZEUS" : "HADES";
+        switchTurn();
         System.out.println("현재 턴: " + currentTurn);
     }
 
+    // 되돌리기(TurnHistory)로 기록 시점의 진영 차례를 복원합니다. 승패 판정은 하지 않습니다.
+    public void restoreTurn(String team) {
+        currentTurn = Team.of(team);
+    }
+
+    private void switchTurn() {
+        currentTurn = currentTurn.opponent();
+    }
+
     public boolean isMyTurn(String team) {
-        return currentTurn.equals(team);
+        return currentTurn == Team.of(team);
+    }
+
+    public boolean isMyTurn(Team team) {
+        return currentTurn == team;
     }
 }
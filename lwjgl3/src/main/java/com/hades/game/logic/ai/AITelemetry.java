@@ -0,0 +1,135 @@
+package com.hades.game.logic.ai;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+// Chess Olympus AI - 턴별 AI 계산 비용 기록 (텔레메트리)
+// AI 턴마다 걸린 시간 / 탐색 노드 수 / 도달 깊이 / 전치표 적중률 / 고른 수와 점수 / 후보 수와 가지친 비율을 남깁니다.
+// 최근 기록은 화면 오버레이(DebugManager, F3)가 읽고, 로그 파일을 지정하면 한 줄씩 덧붙입니다. (MAX_LOG_BYTES 를 넘으면 .1 로 밀어내고 새로 씁니다)
+// 기록은 AI 작업 스레드, 조회는 렌더 스레드에서 하므로 메서드는 모두 동기화되어 있습니다.
+// 단, 파일 쓰기는 렌더 스레드가 매 프레임 조회하다 막히지 않도록 이 잠금을 놓은 뒤 별도 잠금(fileLock)으로 합니다.
+public class AITelemetry {
+    public static final int HISTORY = 8;
+    public static final long MAX_LOG_BYTES = 512 * 1024;
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // [설명] AI 턴 하나의 기록
+    public static final class Entry {
+        public final int turn;
+        public final String source;       // 수를 정한 곳: SEARCH / SEARCHxN / MCTS / PONDER / BOOK (종반 테이블이 후보 순서를 정했으면 +TB)
+        public final double wallMillis;   // 스냅샷 준비 + 탐색까지 걸린 시간 (최소 생각 연출 시간 제외)
+        public final double searchMillis; // 그중 탐색(또는 북/테이블 조회) 시간
+        public final long nodes;          // MCTS 는 playout 수
+        public final int depth;
+        public final double ttHitRate;
+        public final String move;
+        public final int score;
+        public final boolean noise;       // 난이도 보정으로 최선 수 대신 다른 후보를 골랐는지
+        public final int candidates;      // 후보 수 (가지친 후보 포함)
+        public final int pruned;          // 그중 지배되어 전체 평가를 건너뛴 후보 수
+
+        public Entry(int turn, String source, double wallMillis, double searchMillis, long nodes, int depth,
+                     double ttHitRate, String move, int score, boolean noise, int candidates, int pruned) {
+            this.turn = turn;
+            this.source = source;
+            this.wallMillis = wallMillis;
+            this.searchMillis = searchMillis;
+            this.nodes = nodes;
+            this.depth = depth;
+            this.ttHitRate = ttHitRate;
+            this.move = move;
+            this.score = score;
+            this.noise = noise;
+            this.candidates = candidates;
+            this.pruned = pruned;
+        }
+
+        public double prunedFraction() {
+            return candidates > 0 ? (double) pruned / candidates : 0;
+        }
+
+        public String toLogLine() {
+            return String.format(Locale.ROOT, "%s turn=%d source=%s wall=%.1fms search=%.1fms nodes=%d depth=%d tt=%.1f%% candidates=%d pruned=%.1f%% move=%s score=%d%s",
+                LocalDateTime.now().format(TIME), turn, source, wallMillis, searchMillis, nodes, depth, ttHitRate * 100,
+                candidates, prunedFraction() * 100, move, score, noise ? " noise" : "");
+        }
+
+        public String toOverlayLine() {
+            return String.format(Locale.ROOT, "#%d %-9s %6.1fms d%-2d %8d n tt %4.1f%% c%-3d pr %4.1f%%  %s (%d)%s",
+                turn, source, wallMillis, depth, nodes, ttHitRate * 100, candidates, prunedFraction() * 100, move, score, noise ? " *" : "");
+        }
+    }
+
+    private final Entry[] recent = new Entry[HISTORY];
+    private int recorded = 0;
+    private double totalWallMillis = 0;
+    private double maxWallMillis = 0;
+    private long totalCandidates = 0;
+    private long totalPruned = 0;
+    private Path logFile = null;
+    private final Object fileLock = new Object();
+
+    // 로그 파일을 지정합니다. null 이면 파일에 쓰지 않습니다.
+    public synchronized void setLogFile(Path file) {
+        logFile = file;
+    }
+
+    public void record(Entry entry) {
+        Path file;
+        synchronized (this) {
+            recent[recorded % HISTORY] = entry;
+            recorded++;
+            totalWallMillis += entry.wallMillis;
+            maxWallMillis = Math.max(maxWallMillis, entry.wallMillis);
+            totalCandidates += entry.candidates;
+            totalPruned += entry.pruned;
+            file = logFile;
+        }
+        if (file != null) append(file, entry.toLogLine());
+    }
+
+    /**
+     * [메서드 설명] 최근 기록을 최신 순으로 반환합니다. (최대 HISTORY 개)
+     */
+    public synchronized Entry[] getRecent() {
+        int n = Math.min(recorded, HISTORY);
+        Entry[] result = new Entry[n];
+        for (int i = 0; i < n; i++) result[i] = recent[(recorded - 1 - i) % HISTORY];
+        return result;
+    }
+
+    public synchronized int getTurns() {
+        return recorded;
+    }
+
+    public synchronized String summary() {
+        return String.format(Locale.ROOT, "AI turns=%d avg=%.1fms max=%.1fms pruned=%.1f%%", recorded,
+            recorded > 0 ? totalWallMillis / recorded : 0, maxWallMillis, totalCandidates > 0 ? 100.0 * totalPruned / totalCandidates : 0);
+    }
+
+    // 파일 쓰기가 실패해도 게임은 계속됩니다. (한 번 알리고 파일 기록을 끕니다)
+    private void append(Path file, String line) {
+        synchronized (fileLock) {
+            try {
+                if (file.getParent() != null) Files.createDirectories(file.getParent());
+                if (Files.exists(file) && Files.size(file) > MAX_LOG_BYTES) {
+                    Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.write(file, (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                System.err.println("[AI Telemetry] 로그 파일에 쓰지 못했습니다: " + e.getMessage());
+                synchronized (this) {
+                    if (file.equals(logFile)) logFile = null; // 그사이 다른 파일로 바뀌었다면 그대로 둡니다.
+                }
+            }
+        }
+    }
+}
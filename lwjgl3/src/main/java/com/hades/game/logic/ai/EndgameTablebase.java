@@ -0,0 +1,446 @@
+package com.hades.game.logic.ai;
+
+import com.hades.game.entities.Unit;
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+import com.hades.game.logic.sim.Bitboard;
+import com.hades.game.logic.sim.MoveJournal;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Chess Olympus AI - 유닛이 몇 명 남지 않은 종반 테이블베이스 (후퇴 분석)
+// 양 진영 영웅이 살아 있고 남은 유닛이 MAX_UNITS 명 이하인 종반(영웅 1:1, 또는 영웅 둘과 병사 하나)이 대상입니다.
+// 남은 유닛의 칸 / 체력 구간 / 권능 사용 여부(병사는 쓰러짐 포함)와 차례를 인덱스 하나로 묶어, 모든 국면의 승패와 남은 수(plies)를 1바이트로 저장합니다.
+// 체력은 최대 체력을 buckets 개 구간으로 나눈 대표값(구간의 가장 낮은 체력)으로 다루므로, 값은 피해를 구간 단위로 올려 잡은 게임의 값입니다.
+// 실제 체력에서는 틀릴 수 있어 AI 는 이 값을 수 순서 힌트로만 씁니다.
+// 국면 수가 MAX_STATES 이하가 되도록 구간 수를 고르며, 어떤 구간 수로도 넘치면 테이블을 만들지 않습니다.
+// 풀이는 다음 국면 그래프를 저장하지 않고, 값 배열을 회차마다 다시 훑으며 아직 정해지지 않은 국면의 다음 국면을 그때그때 만들어 봅니다. (메모리는 국면당 1바이트)
+// 결과는 명단 서명으로 이름 붙인 파일에 메모리 매핑으로 저장해, 같은 조합의 다음 전투에서는 계산 없이 다시 씁니다.
+// AI 는 턴마다 BattleRoster 를 새로 만들므로, 테이블은 bindTo() 로 내용이 같은 새 명단에 다시 묶어 씁니다. (값 버퍼는 공유)
+public final class EndgameTablebase {
+    public static final int MAX_UNITS = 3; // 영웅 둘 + 병사 하나
+    public static final int MAX_STATES = 1 << 25; // 파일 최대 32MB (유닛 셋이면 구간 2개)
+    public static final int NOT_COVERED = Integer.MIN_VALUE;
+
+    private static final int[] BUCKET_CHOICES = {16, 12, 8, 6, 4, 3, 2};
+    private static final int MAX_DISTANCE = 126;
+    private static final byte INVALID = Byte.MIN_VALUE; // 두 유닛이 같은 칸에 있는 등 존재할 수 없는 인덱스
+    private static final int MAGIC = 0x43544231;         // "CTB1"
+    private static final int HEADER_BYTES = 20;          // MAGIC, 서명(8), 구간 수, 국면 수
+    private static final int SOLVE_CHUNK = 1 << 14;
+
+    private final BattleRoster roster;
+    private final int[] units;          // 참가 유닛 (roster 의 명단 인덱스)
+    private final boolean[] mortal;     // 영웅이 아니면 쓰러져도 종반이 이어집니다.
+    private final boolean[] skillBit;   // 만들 때 권능이 남아 있던 유닛만 사용 여부를 상태에 담습니다.
+    private final boolean[] fixedSkillUsed;
+    private final int buckets;
+    private final int[] unitStates;
+    private final long[] stride;
+    private final int stateCount;
+    private final long signature;
+
+    private ByteBuffer values; // 인덱스 -> 값 (양수: 차례인 쪽이 n 수 안에 승리, 음수: n 수 뒤 패배, 0: 무승부)
+    private BattleState scratch;
+    private final MoveJournal journal = new MoveJournal();
+
+    private EndgameTablebase(BattleState s, int[] units, int buckets) {
+        this.roster = s.roster;
+        this.units = units;
+        this.buckets = buckets;
+        int k = units.length;
+        mortal = new boolean[k];
+        skillBit = new boolean[k];
+        fixedSkillUsed = new boolean[k];
+        unitStates = new int[k];
+        stride = new long[k];
+        long count = 2;
+        for (int j = 0; j < k; j++) {
+            int u = units[j];
+            mortal[j] = roster.unitClass[u] != Unit.UnitClass.HERO;
+            skillBit[j] = roster.skillKind[u] != BattleRoster.SKILL_NONE && !s.skillUsed[u];
+            fixedSkillUsed[j] = s.skillUsed[u];
+            unitStates[j] = unitStateCount(mortal[j], skillBit[j], buckets);
+            stride[j] = count;
+            count *= unitStates[j];
+        }
+        stateCount = (int) count;
+        signature = computeSignature();
+    }
+
+    // bindTo 전용: 값과 인덱스 구조는 그대로 두고 명단과 참가 유닛 인덱스만 바꿉니다.
+    private EndgameTablebase(EndgameTablebase base, BattleRoster roster, int[] units) {
+        this.roster = roster;
+        this.units = units;
+        this.mortal = base.mortal;
+        this.skillBit = base.skillBit;
+        this.fixedSkillUsed = base.fixedSkillUsed;
+        this.buckets = base.buckets;
+        this.unitStates = base.unitStates;
+        this.stride = base.stride;
+        this.stateCount = base.stateCount;
+        this.signature = base.signature;
+        this.values = base.values;
+    }
+
+    // 병사는 0 번 상태를 "쓰러짐" 으로 씁니다.
+    private static int unitStateCount(boolean mortal, boolean skillBit, int buckets) {
+        return (mortal ? 1 : 0) + Bitboard.CELLS * buckets * (skillBit ? 2 : 1);
+    }
+
+    /**
+     * [메서드 설명] 현재 국면이 테이블 대상(생존 유닛 MAX_UNITS 이하, 양 진영 영웅 생존, 국면 수 예산 이내)이면 아직 계산하지 않은 테이블을 반환합니다.
+     * 대상이 아니면 null. 실제 값은 open() 으로 파일에서 읽거나 계산합니다.
+     */
+    public static EndgameTablebase plan(BattleState s) {
+        if (s.isGameOver() || Long.bitCount(s.aliveUnits) > MAX_UNITS) return null;
+        int[] units = new int[Long.bitCount(s.aliveUnits)];
+        int heroes = 0;
+        int k = 0;
+        for (long alive = s.aliveUnits; alive != 0; alive &= alive - 1) {
+            int u = Long.numberOfTrailingZeros(alive);
+            units[k++] = u;
+            if (s.roster.unitClass[u] == Unit.UnitClass.HERO) heroes++;
+        }
+        if (heroes != 2) return null;
+
+        for (int b : BUCKET_CHOICES) {
+            long count = 2;
+            for (int u : units) {
+                boolean mortal = s.roster.unitClass[u] != Unit.UnitClass.HERO;
+                boolean skill = s.roster.skillKind[u] != BattleRoster.SKILL_NONE && !s.skillUsed[u];
+                count *= unitStateCount(mortal, skill, b);
+            }
+            if (count <= MAX_STATES) return new EndgameTablebase(s, units, b);
+        }
+        return null;
+    }
+
+    /**
+     * [메서드 설명] dir 에 같은 서명의 파일이 있으면 매핑해 쓰고, 없으면 후퇴 분석으로 계산해 저장한 뒤 매핑합니다.
+     * 유닛 셋이면 수십 초 걸릴 수 있으므로 AI 턴 밖의 작업 스레드에서 호출합니다.
+     */
+    public void open(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve(String.format("%016x.tb", signature));
+        if (Files.exists(file) && Files.size(file) == HEADER_BYTES + (long) stateCount) {
+            MappedByteBuffer map = map(file, FileChannel.MapMode.READ_ONLY);
+            if (map.getInt(0) == MAGIC && map.getLong(4) == signature && map.getInt(12) == buckets && map.getInt(16) == stateCount) {
+                values = map.position(HEADER_BYTES).slice();
+                return;
+            }
+        }
+
+        byte[] solved = solve();
+        Path tmp = dir.resolve(file.getFileName() + ".tmp");
+        Files.deleteIfExists(tmp);
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) stateCount);
+            map.putInt(MAGIC).putLong(signature).putInt(buckets).putInt(stateCount);
+            map.put(solved);
+            map.force();
+        }
+        Files.move(tmp, file, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+        values = map(file, FileChannel.MapMode.READ_ONLY).position(HEADER_BYTES).slice();
+    }
+
+    private static MappedByteBuffer map(Path file, FileChannel.MapMode mode) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return ch.map(mode, 0, ch.size());
+        }
+    }
+
+    public boolean isReady() {
+        return values != null;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    /**
+     * [메서드 설명] s 의 명단에 묶인 테이블을 반환합니다. 같은 명단이면 this, 참가 유닛과 같은 내용의 유닛을 모두 찾으면 새 명단에 묶은 사본,
+     * 찾지 못하면 null. (명단 객체가 아니라 유닛 스탯 / 권능 내용으로 비교하므로 명단 순서가 달라도 됩니다)
+     */
+    public EndgameTablebase bindTo(BattleState s) {
+        BattleRoster other = s.roster;
+        if (other == roster) return this;
+        if (other.playerTeam != roster.playerTeam) return null;
+        int[] mapped = new int[units.length];
+        long taken = 0;
+        for (int j = 0; j < units.length; j++) {
+            long key = unitKey(roster, units[j]);
+            mapped[j] = -1;
+            for (int u = 0; u < other.size(); u++) {
+                if ((taken & (1L << u)) == 0 && unitKey(other, u) == key) {
+                    mapped[j] = u;
+                    taken |= 1L << u;
+                    break;
+                }
+            }
+            if (mapped[j] < 0) return null;
+        }
+        return new EndgameTablebase(this, other, mapped);
+    }
+
+    /**
+     * [메서드 설명] s 가 이 테이블의 국면이면 차례인 쪽 기준 값(양수 승 / 음수 패 / 0 무)을, 아니면 NOT_COVERED 를 반환합니다. O(1)
+     */
+    public int probe(BattleState s) {
+        if (values == null) return NOT_COVERED;
+        int index = indexOf(s);
+        if (index < 0) return NOT_COVERED;
+        byte v = values.get(index);
+        return v == INVALID ? NOT_COVERED : v;
+    }
+
+    /**
+     * [메서드 설명] 테이블 기준 최선의 수: 이기는 수 중 가장 빠른 수, 없으면 비기는 수, 모두 지면 가장 오래 버티는 수.
+     * 국면이 테이블 밖이면 PASS 를 반환합니다. (AI 는 이 수를 탐색 후보 맨 앞에 둘 뿐, 수는 탐색이 정합니다)
+     */
+    public int bestMove(BattleState root, int[] moves, int count) {
+        if (probe(root) == NOT_COVERED) return BattleRules.PASS;
+        if (scratch == null) {
+            scratch = new BattleState(roster);
+            scratch.journal = journal;
+        }
+        scratch.copyFrom(root);
+        journal.clear();
+        int side = root.sideToMove;
+        int best = BattleRules.PASS;
+        int bestRank = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            int mark = journal.mark();
+            BattleRules.applyMove(scratch, moves[i]);
+            int rank;
+            if (scratch.isGameOver()) {
+                rank = scratch.winner == side ? rankOf(1) : rankOf(-1);
+            } else {
+                int v = probe(scratch);
+                rank = v == NOT_COVERED ? Integer.MIN_VALUE + 1 : rankOf(v == 0 ? 0 : (v > 0 ? -(v + 1) : 1 - v));
+            }
+            journal.undo(scratch, mark);
+            if (rank > bestRank) {
+                bestRank = rank;
+                best = moves[i];
+            }
+        }
+        return best;
+    }
+
+    // 수를 고르는 순위: 빨리 이길수록, 늦게 질수록 높습니다. value 는 이 수를 둔 쪽 기준 (양수 n = n 수 뒤 승리)
+    private static int rankOf(int value) {
+        if (value > 0) return 1000 - value;
+        if (value < 0) return -1000 - value;
+        return 0;
+    }
+
+    // --- [인덱스 <-> 국면] ---
+    private int indexOf(BattleState s) {
+        if (s.roster != roster || s.isGameOver()) return -1; // 다른 명단은 bindTo() 로 먼저 묶습니다.
+        long alive = s.aliveUnits;
+        long index = s.sideToMove;
+        for (int j = 0; j < units.length; j++) {
+            int u = units[j];
+            alive &= ~(1L << u);
+            int local;
+            if (s.hp[u] <= 0) {
+                if (!mortal[j]) return -1;
+                local = 0;
+            } else {
+                if (s.skillReserved[u] || (!skillBit[j] && s.skillUsed[u] != fixedSkillUsed[j])) return -1;
+                local = s.cellOfUnit(u) * buckets + bucketOf(s.hp[u], roster.maxHp[u]);
+                if (skillBit[j]) local = local * 2 + (s.skillUsed[u] ? 1 : 0);
+                if (mortal[j]) local++;
+            }
+            index += local * stride[j];
+        }
+        return alive == 0 ? (int) index : -1; // 테이블에 없는 유닛이 살아 있으면 대상이 아닙니다.
+    }
+
+    // 인덱스의 국면을 작업 상태에 채웁니다. 존재할 수 없는 국면이면 false.
+    private boolean decode(int index, BattleState s) {
+        long occupied = 0;
+        long rest = index >> 1;
+        for (int j = 0; j < units.length; j++) {
+            int u = units[j];
+            int local = (int) (rest % unitStates[j]);
+            rest /= unitStates[j];
+            if (mortal[j]) {
+                if (local == 0) {
+                    s.hp[u] = 0;
+                    continue;
+                }
+                local--;
+            }
+            boolean used = fixedSkillUsed[j];
+            if (skillBit[j]) {
+                used = (local & 1) != 0;
+                local >>= 1;
+            }
+            int cell = local / buckets;
+            long b = Bitboard.bit(cell);
+            if ((occupied & b) != 0) return false;
+            occupied |= b;
+            s.x[u] = BattleState.cellX(cell);
+            s.y[u] = BattleState.cellY(cell);
+            s.hp[u] = representativeHp(local % buckets, roster.maxHp[u]);
+            s.skillUsed[u] = used;
+            s.skillReserved[u] = false;
+        }
+        s.sideToMove = index & 1;
+        s.winner = BattleState.NO_WINNER;
+        s.rebuildDerivedData();
+        return true;
+    }
+
+    private int bucketOf(int hp, int maxHp) {
+        return Math.min(buckets - 1, (int) ((long) (hp - 1) * buckets / maxHp));
+    }
+
+    // 구간의 가장 낮은 체력 (bucketOf 의 역). 가운데 값을 쓰면 구간 폭의 절반보다 작은 피해가 구간을 바꾸지 못해,
+    // 구간이 굵을 때(유닛 셋) 아무도 쓰러지지 않는 게임이 됩니다. 가장 낮은 값이면 한 번 맞을 때마다 적어도 한 구간 내려갑니다.
+    private int representativeHp(int bucket, int maxHp) {
+        return (int) (((long) bucket * maxHp + buckets - 1) / buckets + 1);
+    }
+
+    /**
+     * [메서드 설명] 후퇴 분석: r 회차에는 (r-1) 회차까지 정해진 값만 보고 "r 수 뒤 승리 / 패배" 인 국면을 정합니다.
+     * r 회차에 정해지는 값은 절댓값이 정확히 r 이므로, 같은 회차에 다른 스레드가 막 쓴 값(절댓값 r)은 아직 정해지지 않은 것으로 보면 됩니다.
+     * 그래서 회차 안에서는 잠금 없이 구간을 나눠 여러 스레드로 훑고, 한 회차에 아무것도 정해지지 않으면 끝냅니다. 남은 국면은 무승부(0)입니다.
+     */
+    private byte[] solve() throws IOException {
+        byte[] value = new byte[stateCount];
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "hades-tablebase-solve");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            for (int r = 1; r <= MAX_DISTANCE; r++) {
+                if (solvePass(pool, threads, value, r) == 0) break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("종반 테이블 계산이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("종반 테이블 계산 실패", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return value;
+    }
+
+    // 한 회차: 아직 0 인 국면을 SOLVE_CHUNK 단위로 나눠 훑고, 이번에 값이 정해진 국면 수를 반환합니다.
+    private int solvePass(ExecutorService pool, int threads, byte[] value, int round) throws InterruptedException, ExecutionException {
+        AtomicInteger nextChunk = new AtomicInteger();
+        List<Future<Integer>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tasks.add(pool.submit(() -> {
+                Solver solver = new Solver();
+                int resolved = 0;
+                for (int from; (from = nextChunk.getAndIncrement() * SOLVE_CHUNK) < stateCount; ) {
+                    if (Thread.currentThread().isInterrupted()) break;
+                    int to = Math.min(stateCount, from + SOLVE_CHUNK);
+                    for (int idx = from; idx < to; idx++) {
+                        if (value[idx] != 0) continue;
+                        byte v = solver.resolve(value, idx, round);
+                        if (v == 0) continue;
+                        value[idx] = v;
+                        if (v != INVALID) resolved++;
+                    }
+                }
+                return resolved;
+            }));
+        }
+        int resolved = 0;
+        for (Future<Integer> f : tasks) resolved += f.get();
+        return resolved;
+    }
+
+    // [설명] 풀이 스레드 하나의 작업 상태 (테이블에 없는 유닛은 체력 0 으로 둡니다)
+    private final class Solver {
+        final BattleState work = new BattleState(roster);
+        final MoveJournal log = new MoveJournal();
+        final int[] moves = new int[1024];
+
+        // idx 가 round 회차에 정해지면 그 값, 아니면 0. 존재할 수 없는 국면이면 INVALID (1 회차에만 만납니다)
+        byte resolve(byte[] value, int idx, int round) {
+            work.journal = null;
+            if (!decode(idx, work)) return INVALID;
+            work.journal = log;
+            log.clear();
+            int side = work.sideToMove;
+            int count = BattleRules.generateMoves(work, moves);
+            if (count == 0) moves[count++] = BattleRules.PASS;
+
+            boolean allLose = true;
+            int worstLoss = 0;
+            for (int i = 0; i < count; i++) {
+                if (moves[i] == BattleRules.PASS) BattleRules.passTurn(work);
+                else BattleRules.applyMove(work, moves[i]);
+                if (work.isGameOver()) {
+                    boolean won = work.winner == side;
+                    log.undo(work, 0);
+                    if (won) return 1;
+                    worstLoss = Math.max(worstLoss, 1); // 자멸하는 수
+                    continue;
+                }
+                int next = indexOf(work);
+                int v = next >= 0 ? value[next] : 0;
+                log.undo(work, 0);
+
+                if (next < 0 || v == 0 || Math.abs(v) >= round) {
+                    allLose = false; // 아직 정해지지 않은 (또는 이번 회차에 막 정해진) 다음 국면
+                } else if (v < 0) {
+                    return (byte) (1 - v); // 상대가 (-v) 수 뒤에 지는 국면으로 가는 수
+                } else {
+                    worstLoss = Math.max(worstLoss, v + 1);
+                }
+            }
+            return allLose ? (byte) -worstLoss : 0;
+        }
+    }
+
+    // 명단의 참가 유닛 스탯과 권능, 구간 수가 같으면 같은 테이블입니다. (명단 인덱스는 서명에 넣지 않습니다)
+    private long computeSignature() {
+        long h = 0x9E3779B97F4A7C15L * (buckets + 31L * roster.playerTeam);
+        for (int j = 0; j < units.length; j++) {
+            long[] fields = {unitKey(roster, units[j]), skillBit[j] ? 1 : 0, fixedSkillUsed[j] ? 1 : 0};
+            for (long f : fields) h = (h ^ f) * 0x100000001B3L + 0x632BE59BD9B4E019L;
+        }
+        return h;
+    }
+
+    // 유닛 하나의 규칙상 내용 (진영, 병과, 스탯, 권능)
+    private static long unitKey(BattleRoster r, int u) {
+        long[] fields = {
+            r.team[u], r.unitClass[u].ordinal(), r.maxHp[u], r.atk[u], r.counterAtk[u],
+            r.move[u], r.range[u], Float.floatToIntBits(r.attackMultiplier[u]), r.skillKind[u],
+            Float.floatToIntBits(r.skillPower[u]), r.skillRange[u], r.skillShape[u].ordinal(),
+            r.skillAoE[u] ? 1 : 0, r.skillBonusDamage[u], r.skillShield[u]
+        };
+        long h = 0xCBF29CE484222325L;
+        for (long f : fields) h = (h ^ f) * 0x100000001B3L + 0x632BE59BD9B4E019L;
+        return h;
+    }
+}
@@ -0,0 +1,57 @@
+package com.hades.game.logic.ai;
+
+import com.hades.game.entities.Unit;
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.BattleState;
+
+// Chess Olympus AI - 탐색 말단(leaf) 국면 평가 함수
+// 턴을 가진 진영의 관점에서 점수를 돌려줍니다. (negamax 규약: 양수 = 유리)
+public final class Evaluator {
+    public static final int WIN_SCORE = 1_000_000;
+
+    private static final int HERO_HP_WEIGHT = 6000;
+    private static final int UNIT_ALIVE_WEIGHT = 2;
+    private static final int UNIT_HP_WEIGHT = 3;
+    private static final int HERO_EXPOSED_PENALTY = 400;
+    private static final int HERO_THREAT_PENALTY = 150;
+
+    private Evaluator() { }
+
+    public static int evaluate(BattleState s) {
+        BattleRoster r = s.roster;
+        int n = s.size();
+        int score = 0;
+
+        for (int u = 0; u < n; u++) {
+            if (s.hp[u] <= 0) continue;
+            int sign = (r.team[u] == s.sideToMove) ? 1 : -1;
+            int unitScore;
+
+            if (r.unitClass[u] == Unit.UnitClass.HERO) {
+                unitScore = HERO_HP_WEIGHT * s.hp[u] / r.maxHp[u];
+                if (!r.isHomeRow(r.team[u], s.y[u])) unitScore -= HERO_EXPOSED_PENALTY;
+                unitScore -= HERO_THREAT_PENALTY * countThreats(s, u);
+            } else {
+                // 일반 병사: 생존 가치 + 남은 체력 비율만큼의 가치
+                unitScore = r.value[u] * UNIT_ALIVE_WEIGHT + r.value[u] * UNIT_HP_WEIGHT * s.hp[u] / r.maxHp[u];
+            }
+            score += sign * unitScore;
+        }
+        return score;
+    }
+
+    // AILogic.isUnitUnderThreat 와 같은 기준(이동력 + 사거리)으로 위협 중인 적의 수를 셉니다.
+    // 위협 지도가 켜진 상태(루트 국면)라면 칸 값을 바로 읽습니다.
+    private static int countThreats(BattleState s, int u) {
+        BattleRoster r = s.roster;
+        if (s.threats != null) return s.threats.count(1 - r.team[u], s.cellOfUnit(u));
+        int n = s.size();
+        int count = 0;
+        for (int e = 0; e < n; e++) {
+            if (s.hp[e] <= 0 || r.team[e] == r.team[u]) continue;
+            int dist = Math.abs(s.x[e] - s.x[u]) + Math.abs(s.y[e] - s.y[u]);
+            if (dist <= r.move[e] + r.range[e]) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,264 @@
+package com.hades.game.logic.ai;
+
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+import com.hades.game.logic.sim.MoveJournal;
+import com.hades.game.logic.sim.MoveTables;
+import java.util.SplittableRandom;
+
+// Chess Olympus AI - 몬테카를로 트리 탐색(UCT) 엔진
+// 손으로 맞춘 점수 대신, 시간 예산 동안 "선택 -> 확장 -> 무작위 진행(rollout) -> 역전파" 를 반복해 승률이 가장 높은 수를 고릅니다.
+// 노드는 미리 할당한 기본형 배열(노드 풀)에 저장하고, 국면은 작업용 상태 하나에서 MoveJournal 로 되돌리므로 탐색 중 객체를 만들지 않습니다.
+// 결과의 score 는 루트 진영 기준 승률(천분율), nodes 는 진행한 playout 수, depth 는 트리의 최대 깊이입니다.
+public class MctsEngine {
+    public static final int DEFAULT_NODE_CAPACITY = 1 << 18;
+
+    private static final double EXPLORATION = 1.4;
+    private static final int ROLLOUT_PLIES = 12;    // 이 수만큼 진행해도 승패가 안 나면 평가 함수로 승률을 추정합니다.
+    private static final int ROLLOUT_SAMPLES = 3;   // 기본 정책: 무작위 수를 최대 이만큼 뽑아 공격 가능한 수를 우선합니다.
+    private static final double EVAL_SCALE = 2500.0; // 평가 점수 -> 승률 변환(로지스틱) 기울기
+    private static final int MAX_MOVES = 1024;
+    private static final int MAX_TREE_DEPTH = 64;
+
+    // --- [노드 풀: 인덱스 0 = 루트, 자식들은 연속된 구간에 배치됩니다] ---
+    private final int capacity;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] move;
+    private final int[] mover;   // 이 노드로 오는 수를 둔 진영
+    private final int[] visits;
+    private final double[] wins; // mover 기준 누적 승점
+    private int nodeCount;
+
+    private final MoveJournal journal = new MoveJournal(1024);
+    private BattleState board;
+    private final int[] moveBuffer = new int[MAX_MOVES];
+    private final int[] path = new int[MAX_TREE_DEPTH + 1];
+    private SplittableRandom rng;
+
+    private volatile boolean stopRequested;
+
+    // 누적 통계
+    private long totalPlayouts = 0;
+    private long totalNanos = 0;
+
+    public MctsEngine() {
+        this(DEFAULT_NODE_CAPACITY, System.nanoTime());
+    }
+
+    public MctsEngine(int nodeCapacity, long seed) {
+        capacity = nodeCapacity;
+        firstChild = new int[capacity];
+        childCount = new int[capacity];
+        move = new int[capacity];
+        mover = new int[capacity];
+        visits = new int[capacity];
+        wins = new double[capacity];
+        rng = new SplittableRandom(seed);
+    }
+
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    public void setSeed(long seed) {
+        rng = new SplittableRandom(seed);
+    }
+
+    /**
+     * [메서드 설명] SearchEngine.search 와 같은 계약으로 루트 후보 수 중 하나를 고릅니다.
+     * 시간 예산이 끝나거나 maxPlayouts 만큼 진행하면 멈추고, 가장 많이 방문한 수를 반환합니다.
+     */
+    public SearchResult search(BattleState root, int[] candidates, int candidateCount, long budgetMillis, int maxPlayouts) {
+        long start = System.nanoTime();
+        long deadline = start + budgetMillis * 1_000_000L;
+        stopRequested = false;
+        prepareBoard(root);
+
+        int count = Math.min(candidateCount, Math.min(MAX_MOVES, capacity - 1));
+        nodeCount = 1;
+        resetNode(0, BattleRules.PASS, 1 - root.sideToMove);
+        // 루트 자식은 호출부가 정렬한 후보 순서 그대로 둡니다. (방문 전 노드는 앞에서부터 하나씩 시도됩니다)
+        firstChild[0] = nodeCount;
+        childCount[0] = count;
+        for (int i = 0; i < count; i++) resetNode(nodeCount++, candidates[i], root.sideToMove);
+
+        SearchResult result = new SearchResult();
+        result.bestMove = count > 0 ? candidates[0] : BattleRules.PASS;
+        int playouts = 0;
+        int maxDepth = 0;
+        while (count > 0 && playouts < maxPlayouts && !stopRequested && System.nanoTime() < deadline) {
+            int depth = playout();
+            if (depth > maxDepth) maxDepth = depth;
+            playouts++;
+        }
+
+        int best = -1;
+        for (int i = 0; i < count; i++) {
+            int c = firstChild[0] + i;
+            if (best < 0 || visits[c] > visits[best]) best = c;
+        }
+        if (best >= 0) {
+            result.bestMove = move[best];
+            result.score = visits[best] > 0 ? (int) Math.round(1000.0 * wins[best] / visits[best]) : 500;
+        }
+        result.depth = maxDepth;
+        result.nodes = playouts;
+        result.elapsedNanos = System.nanoTime() - start;
+        result.timedOut = stopRequested;
+
+        totalPlayouts += playouts;
+        totalNanos += result.elapsedNanos;
+        return result;
+    }
+
+    // 선택 -> 확장 -> rollout -> 역전파를 한 번 수행하고, 트리에서 내려간 깊이를 반환합니다.
+    private int playout() {
+        BattleState s = board;
+        int node = 0;
+        int depth = 0;
+        path[0] = 0;
+
+        // 1. 선택: 자식이 있는 동안 UCT 값이 가장 큰 자식으로 내려갑니다.
+        while (childCount[node] > 0 && depth < MAX_TREE_DEPTH) {
+            node = selectChild(node);
+            applyTreeMove(s, move[node]);
+            path[++depth] = node;
+            if (s.isGameOver()) break;
+        }
+
+        // 2. 확장: 한 번 이상 방문한 말단 노드만 자식을 만듭니다. (풀이 가득 차면 확장 없이 rollout 만 합니다)
+        if (!s.isGameOver() && visits[node] > 0 && depth < MAX_TREE_DEPTH && expand(node, s)) {
+            node = firstChild[node];
+            applyTreeMove(s, move[node]);
+            path[++depth] = node;
+        }
+
+        // 3. rollout -> 4. 역전파 (결과는 HADES 진영 기준 승률)
+        double hadesValue = rollout(s);
+        for (int i = depth; i >= 0; i--) {
+            int n = path[i];
+            visits[n]++;
+            wins[n] += mover[n] == BattleRoster.TEAM_HADES ? hadesValue : 1.0 - hadesValue;
+        }
+        journal.undo(s, 0);
+        return depth;
+    }
+
+    private int selectChild(int node) {
+        int first = firstChild[node];
+        int end = first + childCount[node];
+        double logN = Math.log(Math.max(1, visits[node]));
+        int best = first;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int c = first; c < end; c++) {
+            if (visits[c] == 0) return c; // 아직 안 해 본 수를 먼저 시도합니다.
+            double value = wins[c] / visits[c] + EXPLORATION * Math.sqrt(logN / visits[c]);
+            if (value > bestValue) {
+                bestValue = value;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private boolean expand(int node, BattleState s) {
+        int count = BattleRules.generateMoves(s, moveBuffer);
+        int needed = Math.max(1, count);
+        if (nodeCount + needed > capacity) return false;
+        firstChild[node] = nodeCount;
+        childCount[node] = needed;
+        if (count == 0) {
+            resetNode(nodeCount++, BattleRules.PASS, s.sideToMove);
+        } else {
+            // 자식 순서를 섞어 같은 값의 수들 사이에서 첫 번째 수만 반복 선택되지 않게 합니다.
+            for (int i = count - 1; i > 0; i--) {
+                int j = rng.nextInt(i + 1);
+                int t = moveBuffer[i];
+                moveBuffer[i] = moveBuffer[j];
+                moveBuffer[j] = t;
+            }
+            for (int i = 0; i < count; i++) resetNode(nodeCount++, moveBuffer[i], s.sideToMove);
+        }
+        return true;
+    }
+
+    private void resetNode(int n, int m, int moverTeam) {
+        firstChild[n] = 0;
+        childCount[n] = 0;
+        move[n] = m;
+        mover[n] = moverTeam;
+        visits[n] = 0;
+        wins[n] = 0;
+    }
+
+    private static void applyTreeMove(BattleState s, int m) {
+        if (m == BattleRules.PASS) BattleRules.passTurn(s);
+        else BattleRules.applyMove(s, m);
+    }
+
+    /**
+     * [메서드 설명] 기본 정책으로 ROLLOUT_PLIES 수를 진행하고 HADES 진영의 승률(0~1)을 돌려줍니다.
+     * 전체 수 목록을 만들지 않고, 무작위 유닛의 이동 칸 비트 중 하나를 고릅니다.
+     */
+    private double rollout(BattleState s) {
+        for (int ply = 0; ply < ROLLOUT_PLIES && !s.isGameOver(); ply++) {
+            int m = defaultPolicy(s);
+            applyTreeMove(s, m);
+        }
+        if (s.isGameOver()) return s.winner == BattleRoster.TEAM_HADES ? 1.0 : 0.0;
+        double eval = Evaluator.evaluate(s); // 턴을 가진 진영 기준
+        double sideValue = 1.0 / (1.0 + Math.exp(-eval / EVAL_SCALE));
+        return s.sideToMove == BattleRoster.TEAM_HADES ? sideValue : 1.0 - sideValue;
+    }
+
+    // 무작위 수를 몇 개 뽑아 이동 후 적을 칠 수 있는 수를 우선합니다. 둘 수 있는 수가 전혀 없을 때만 PASS.
+    private int defaultPolicy(BattleState s) {
+        long mine = s.aliveUnits & s.roster.teamUnits[s.sideToMove];
+        int unitCount = Long.bitCount(mine);
+        if (unitCount == 0) return BattleRules.PASS;
+        long enemies = s.teamCells[1 - s.sideToMove];
+
+        int fallback = BattleRules.PASS;
+        for (int sample = 0; sample < ROLLOUT_SAMPLES * 2; sample++) {
+            int u = nthBit(mine, rng.nextInt(unitCount));
+            long targets = BattleRules.movesOf(s, u);
+            if (targets == 0) continue;
+            int cell = nthBit(targets, rng.nextInt(Long.bitCount(targets)));
+            int m = BattleRules.encodeMove(u, cell);
+            long reach = MoveTables.attackMask(s.roster.unitClass[u], s.roster.range[u], cell);
+            if ((reach & enemies) != 0) return m;
+            if (fallback == BattleRules.PASS) fallback = m;
+            else if (sample >= ROLLOUT_SAMPLES) break;
+        }
+        if (fallback == BattleRules.PASS) {
+            // 뽑은 유닛들이 모두 막혀 있던 경우에만 전체 수 목록에서 고릅니다.
+            int count = BattleRules.generateMoves(s, moveBuffer);
+            if (count > 0) fallback = moveBuffer[rng.nextInt(count)];
+        }
+        return fallback;
+    }
+
+    private static int nthBit(long bits, int n) {
+        for (int i = 0; i < n; i++) bits &= bits - 1;
+        return Long.numberOfTrailingZeros(bits);
+    }
+
+    private void prepareBoard(BattleState root) {
+        if (board == null || board.roster != root.roster) {
+            board = new BattleState(root.roster);
+            board.journal = journal;
+        }
+        board.copyFrom(root);
+        journal.clear();
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public double getAveragePlayoutsPerSecond() {
+        return totalNanos > 0 ? totalPlayouts * 1_000_000_000.0 / totalNanos : 0;
+    }
+}
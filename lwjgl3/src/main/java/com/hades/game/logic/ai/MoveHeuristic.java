@@ -0,0 +1,80 @@
+package com.hades.game.logic.ai;
+
+import com.hades.game.constants.GameConfig;
+import com.hades.game.entities.Unit;
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+import com.hades.game.logic.sim.ThreatMap;
+
+// Chess Olympus AI - 후보 수 하나의 휴리스틱 점수 (AILogic 의 후보 정렬과 WeightTuner 의 자가 대국이 함께 씁니다)
+// 적중 가치 / 막타 / 위협 / 영토 / 받을 피해를 MoveWeights 가중치로 합산합니다. 상태는 위협 지도가 켜진 BattleState 여야 합니다.
+public final class MoveHeuristic {
+    public static final String EFFICIENCY = "EFFICIENCY";
+    public static final String ASSASSIN = "ASSASSIN";
+    public static final String DEFENSIVE = "DEFENSIVE";
+
+    private MoveHeuristic() { }
+
+    // 유닛 u 가 cell 에서 권능/공격으로 칠 수 있는 적 칸 집합
+    public static long targets(BattleState s, int u, int cell) {
+        return BattleRules.skillHitMask(s, u, cell) & s.teamCells[1 - s.roster.team[u]];
+    }
+
+    // 권능 계수를 적용한 한 번의 피해 (권능이 없는 유닛은 기본 공격력)
+    public static int damage(BattleState s, int u) {
+        BattleRoster r = s.roster;
+        float power = r.skillKind[u] == BattleRoster.SKILL_NONE ? 1.0f : r.skillPower[u];
+        return (int) (r.atk[u] * power);
+    }
+
+    // 진영별 자기 영토: 플레이어는 아래쪽 절반, AI 는 위쪽 절반에서 시작합니다.
+    public static boolean isOwnTerritory(BattleState s, int u, int cellY) {
+        boolean upperHalf = cellY >= GameConfig.BOARD_HEIGHT / 2;
+        return s.roster.team[u] == s.roster.playerTeam ? !upperHalf : upperHalf;
+    }
+
+    /**
+     * [메서드 설명] 유닛 u 가 cell 로 이동하는 수의 점수. targets 는 targets(s, u, cell) 결과를 그대로 넘깁니다.
+     */
+    public static float score(MoveWeights w, BattleState s, int u, int cell, long targets, int damage, String strategy) {
+        float score = 0f;
+        boolean assassin = ASSASSIN.equals(strategy);
+
+        // 이 칸을 노리는 적의 수와 공격력 합은 위협 지도에서 바로 읽습니다.
+        int enemyTeam = 1 - s.roster.team[u];
+        ThreatMap threats = s.threats;
+        int threatCount = threats.count(enemyTeam, cell);
+        float potentialDamageTaken = threats.attack(enemyTeam, cell);
+
+        // 적중 가능한 적만 비트로 골라 순회합니다.
+        while (targets != 0) {
+            int target = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            int enemy = s.unitAt(BattleState.cellX(target), BattleState.cellY(target));
+
+            boolean hero = s.roster.unitClass[enemy] == Unit.UnitClass.HERO;
+            float targetValue = hero ? w.heroTargetValue : w.unitTargetValue;
+            if (assassin && hero) targetValue += w.assassinHeroBonus;
+
+            score += targetValue;
+            if (s.hp[enemy] <= damage) score += w.killBonus;
+        }
+
+        if (threatCount >= 2) score -= assassin ? w.assassinMultiThreatPenalty : w.multiThreatPenalty;
+        if (!isOwnTerritory(s, u, BattleState.cellY(cell))) {
+            score -= s.roster.unitClass[u] == Unit.UnitClass.HERO ? w.heroEnemyTerritoryPenalty : w.unitEnemyTerritoryPenalty;
+        }
+
+        float survivalWeight = DEFENSIVE.equals(strategy) ? w.defensiveSurvivalWeight : w.survivalWeight;
+        score -= potentialDamageTaken * survivalWeight;
+        return score;
+    }
+
+    // 위협받는 아군 근처(거리 5 이내)에서 적을 칠 수 있으면 가까울수록 가산합니다.
+    public static float allySupport(MoveWeights w, int cell, int allyCell, long targets) {
+        if (allyCell < 0 || targets == 0) return 0f;
+        int dist = Math.abs(BattleState.cellX(cell) - BattleState.cellX(allyCell)) + Math.abs(BattleState.cellY(cell) - BattleState.cellY(allyCell));
+        return dist <= 5 ? (6 - dist) * w.allySupportWeight : 0f;
+    }
+}
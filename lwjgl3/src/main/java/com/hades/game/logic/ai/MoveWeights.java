@@ -0,0 +1,100 @@
+package com.hades.game.logic.ai;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+
+// Chess Olympus AI - 후보 수 휴리스틱(MoveHeuristic) 가중치
+// 기본값은 원래 AILogic.calculateFinalScore 에 박혀 있던 상수들이고, WeightTuner 가 자가 대국으로 조정한 값을 data/ai_weights.json 으로 내보냅니다.
+// 게임은 시작할 때 그 파일이 있으면 읽어 쓰고, 없거나 읽지 못하면 기본값을 씁니다.
+public final class MoveWeights {
+    public static final String DATA_PATH = "data/ai_weights.json";
+
+    // 적중 가치
+    public float heroTargetValue = 15000f;
+    public float unitTargetValue = 8000f;
+    public float assassinHeroBonus = 10000f;   // ASSASSIN 전략일 때 영웅 적중 추가 가치
+    public float killBonus = 20000f;           // 막타(적 체력 <= 피해)
+    // 위험
+    public float multiThreatPenalty = 100000f;         // 적 2명 이상이 노리는 칸
+    public float assassinMultiThreatPenalty = 40000f;  // ASSASSIN 전략일 때의 같은 벌점
+    public float heroEnemyTerritoryPenalty = 120000f;
+    public float unitEnemyTerritoryPenalty = 40000f;
+    public float survivalWeight = 8f;            // 받을 수 있는 피해 1당 벌점
+    public float defensiveSurvivalWeight = 20f;  // DEFENSIVE 전략일 때
+    // 상황 보정
+    public float recentActorPenalty = 30000f;    // 최근에 움직인 유닛을 또 움직이는 벌점
+    public float allySupportWeight = 5000f;      // 위협받는 아군 근처에서 적을 칠 수 있는 칸, 거리 1 가까울 때마다
+
+    // 튜너가 한 벡터로 다루는 순서 (toArray / fromArray / NAMES 가 같은 순서를 씁니다)
+    public static final String[] NAMES = {
+        "heroTargetValue", "unitTargetValue", "assassinHeroBonus", "killBonus",
+        "multiThreatPenalty", "assassinMultiThreatPenalty", "heroEnemyTerritoryPenalty", "unitEnemyTerritoryPenalty",
+        "survivalWeight", "defensiveSurvivalWeight", "recentActorPenalty", "allySupportWeight"
+    };
+
+    public MoveWeights() { } // JSON 로드를 위한 기본 생성자
+
+    public MoveWeights(float[] values) {
+        fromArray(values);
+    }
+
+    public float[] toArray() {
+        return new float[] {
+            heroTargetValue, unitTargetValue, assassinHeroBonus, killBonus,
+            multiThreatPenalty, assassinMultiThreatPenalty, heroEnemyTerritoryPenalty, unitEnemyTerritoryPenalty,
+            survivalWeight, defensiveSurvivalWeight, recentActorPenalty, allySupportWeight
+        };
+    }
+
+    public void fromArray(float[] v) {
+        if (v.length != NAMES.length) throw new IllegalArgumentException("가중치 개수가 맞지 않습니다: " + v.length);
+        heroTargetValue = v[0];
+        unitTargetValue = v[1];
+        assassinHeroBonus = v[2];
+        killBonus = v[3];
+        multiThreatPenalty = v[4];
+        assassinMultiThreatPenalty = v[5];
+        heroEnemyTerritoryPenalty = v[6];
+        unitEnemyTerritoryPenalty = v[7];
+        survivalWeight = v[8];
+        defensiveSurvivalWeight = v[9];
+        recentActorPenalty = v[10];
+        allySupportWeight = v[11];
+    }
+
+    public String toJson() {
+        return new Json().prettyPrint(this);
+    }
+
+    /**
+     * [메서드 설명] JSON 을 읽어 가중치를 만듭니다. 음수이거나 유한하지 않은 값이 있으면 IllegalArgumentException 을 던집니다.
+     * (벌점이 음수가 되면 AILogic 의 조용한 수 가지치기 전제가 깨집니다. WeightTuner 도 같은 이유로 양수로 묶습니다)
+     */
+    public static MoveWeights fromJson(String text) {
+        MoveWeights w = new Json().fromJson(MoveWeights.class, text);
+        float[] v = w.toArray();
+        for (int i = 0; i < v.length; i++) {
+            if (!Float.isFinite(v[i]) || v[i] < 0f) {
+                throw new IllegalArgumentException("잘못된 가중치: " + NAMES[i] + "=" + v[i]);
+            }
+        }
+        return w;
+    }
+
+    /**
+     * [메서드 설명] 게임 자원(assets)에서 튜닝된 가중치를 읽습니다. 파일이 없거나 형식이 틀리거나 값이 잘못되면 기본값을 반환합니다.
+     */
+    public static MoveWeights loadInternal() {
+        FileHandle file = Gdx.files.internal(DATA_PATH);
+        if (!file.exists()) return new MoveWeights();
+        try {
+            MoveWeights w = fromJson(file.readString("UTF-8"));
+            Gdx.app.log("AI", "휴리스틱 가중치 로드: " + DATA_PATH);
+            return w;
+        } catch (Exception e) {
+            Gdx.app.error("AI", "가중치 파일을 읽지 못해 기본값을 사용합니다: " + e.getMessage());
+            return new MoveWeights();
+        }
+    }
+}
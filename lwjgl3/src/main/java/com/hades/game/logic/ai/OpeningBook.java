@@ -0,0 +1,128 @@
+package com.hades.game.logic.ai;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+import com.hades.game.logic.sim.ThreatMap;
+import com.hades.game.logic.sim.Zobrist;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+// Chess Olympus AI - 스테이지 배치별 오프닝 북 (OpeningBookBuilder 가 미리 깊게 탐색해 만든 data/opening_book.bin)
+// 전투 초반에는 양 진영이 서로 닿지 않으므로 AI 의 최선 수는 AI 쪽 배치에 달려 있습니다. 그래서 키는 차례인 진영(AI) 유닛만의 Zobrist 해시와
+// 그 진영 명단(보스 / 병과 / 스탯)의 서명을 합친 값이고, 두 진영이 아직 접촉하지 않은 국면에서만 북을 찾습니다.
+// 항목은 (키, 출발 칸 << 6 | 도착 칸) 을 키 순서로 정렬해 두고 이진 탐색으로 찾습니다. (항목당 10바이트)
+public final class OpeningBook {
+    public static final String DATA_PATH = "data/opening_book.bin";
+    static final int MAGIC = 0x434F4231; // "COB1"
+
+    public static final OpeningBook EMPTY = new OpeningBook(new long[0], new short[0]);
+
+    private final long[] keys;
+    private final short[] moves;
+
+    OpeningBook(long[] keys, short[] moves) {
+        this.keys = keys;
+        this.moves = moves;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * [메서드 설명] 북에 있는 수를 이번 턴 후보(moves) 중 하나로 바꿔 돌려줍니다.
+     * 두 진영이 이미 접촉했거나, 북에 없거나, 북의 수가 지금 둘 수 없는 수이면 PASS 를 반환합니다.
+     */
+    public int probe(BattleState s, int[] candidates, int count) {
+        if (keys.length == 0 || s.isGameOver() || inContact(s)) return BattleRules.PASS;
+        int idx = Arrays.binarySearch(keys, key(s));
+        if (idx < 0) return BattleRules.PASS;
+        int fromCell = moves[idx] >> 6;
+        int toCell = moves[idx] & 63;
+        int unit = s.unitAt(BattleState.cellX(fromCell), BattleState.cellY(fromCell));
+        if (unit == BattleState.NO_UNIT) return BattleRules.PASS;
+        int move = BattleRules.encodeMove(unit, toCell);
+        for (int i = 0; i < count; i++) {
+            if (candidates[i] == move) return move;
+        }
+        return BattleRules.PASS;
+    }
+
+    /**
+     * [메서드 설명] 북 키: 차례인 진영 유닛의 (병과, 칸, 체력, 권능 상태) 해시에 그 진영 명단의 서명을 섞은 값.
+     * 상대 진영의 배치는 키에 들어가지 않습니다. (접촉 전에는 상대의 무작위 배치와 관계없이 같은 수를 씁니다)
+     */
+    public static long key(BattleState s) {
+        BattleRoster r = s.roster;
+        int side = s.sideToMove;
+        long key = Zobrist.side(side);
+        long signature = 0;
+        for (int u = 0; u < s.size(); u++) {
+            if (r.team[u] != side) continue;
+            signature = (signature ^ r.unitClass[u].ordinal() ^ (long) r.maxHp[u] << 8 ^ (long) r.atk[u] << 24
+                ^ (long) r.names[u].hashCode() << 32) * 0x100000001B3L;
+            if (s.hp[u] <= 0) continue;
+            int cell = s.cellOfUnit(u);
+            key ^= Zobrist.piece(side, r.unitClass[u].ordinal(), cell) ^ Zobrist.hp(cell, s.hp[u]);
+            if (s.skillUsed[u]) key ^= Zobrist.skillUsed(cell);
+            if (s.skillReserved[u]) key ^= Zobrist.skillReserved(cell);
+        }
+        return key ^ (signature * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * [메서드 설명] 어느 쪽이든 다음 턴에 상대 유닛이 있는 칸에 닿을 수 있으면 접촉한 것으로 봅니다. (위협 지도와 같은 기준: 이동력 + 사거리)
+     */
+    public static boolean inContact(BattleState s) {
+        long[] reach = new long[2];
+        for (int u = 0; u < s.size(); u++) {
+            if (s.hp[u] > 0) reach[s.roster.team[u]] |= ThreatMap.reachMask(s.roster, u, s.cellOfUnit(u));
+        }
+        return (reach[0] & s.teamCells[1]) != 0 || (reach[1] & s.teamCells[0]) != 0;
+    }
+
+    // --- [파일 형식: MAGIC, 항목 수, (키 long, 수 short) x 항목 수 (키 오름차순)] ---
+    public static OpeningBook read(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != MAGIC) throw new IOException("오프닝 북 형식이 아닙니다.");
+        int n = in.readInt();
+        long[] keys = new long[n];
+        short[] moves = new short[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = in.readLong();
+            moves[i] = in.readShort();
+        }
+        return new OpeningBook(keys, moves);
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            out.writeLong(keys[i]);
+            out.writeShort(moves[i]);
+        }
+    }
+
+    /**
+     * [메서드 설명] 게임 자원(assets)에서 오프닝 북을 읽습니다. 파일이 없거나 형식이 틀리면 빈 북을 반환합니다.
+     */
+    public static OpeningBook loadInternal() {
+        FileHandle file = Gdx.files.internal(DATA_PATH);
+        if (!file.exists()) return EMPTY;
+        try {
+            OpeningBook book = read(file.readBytes());
+            Gdx.app.log("AI", "오프닝 북 로드: " + book.size() + " 국면");
+            return book;
+        } catch (Exception e) {
+            Gdx.app.error("AI", "오프닝 북을 읽지 못했습니다: " + e.getMessage());
+            return EMPTY;
+        }
+    }
+}
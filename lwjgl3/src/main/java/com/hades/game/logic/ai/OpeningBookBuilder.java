@@ -0,0 +1,224 @@
+package com.hades.game.logic.ai;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.hades.game.constants.UnitData;
+import com.hades.game.entities.Unit;
+import com.hades.game.logic.StageGenerator;
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+import com.hades.game.logic.sim.Bitboard;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Chess Olympus AI - 오프닝 북 생성기 (그래픽 없이 실행)
+// 실행: ./gradlew :lwjgl3:openingBook --args="--depth 8 --budget 3000 --samples 3"
+// 진영 x 스테이지 보스 x 보스 쪽 일반병 배치(6! 순열, 방패병 둘은 같으므로 360가지)마다 AI 의 처음 몇 수를 깊게 탐색합니다.
+// 플레이어 쪽 배치와 응수는 무작위 배치 + 얕은 탐색으로 여러 번 뽑고, 접촉 전 국면에서 나온 AI 의 최선 수 중 가장 많이 나온 수를 북에 넣습니다.
+// 다음 북 수는 그 수를 둔 AI 배치에서 다시 같은 방법으로 찾습니다. 결과는 assets/data/opening_book.bin 으로 저장됩니다.
+public class OpeningBookBuilder {
+    private static final int STAGE_COUNT = UnitData.STATS_ZEUS.length;
+    private static final int HERO_COUNT = UnitData.STATS_HADES.length;
+    private static final int SOLDIERS = 6;
+    private static final int[] SOLDIER_COLUMNS = {0, 1, 2, 4, 5, 6}; // 보스 자리(3)를 뺀 열
+    private static final int PLAYER_DEPTH = 2;        // 플레이어 응수를 고르는 얕은 탐색
+    private static final long PLAYER_BUDGET_MS = 50;
+    private static final int BOOK_TT_SIZE_LOG2 = 16;
+
+    private int depth = 8;
+    private long budgetMillis = 3000;
+    private int samples = 3;
+    private int bookMoves = 3;
+    private String[] factions = {"HADES", "ZEUS"}; // 플레이어 진영
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 20260101L;
+    private Path out = Paths.get("assets", OpeningBook.DATA_PATH);
+
+    public static void main(String[] args) throws Exception {
+        OpeningBookBuilder builder = new OpeningBookBuilder();
+        builder.parseArgs(args);
+        builder.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--depth": depth = Integer.parseInt(value); break;
+                case "--budget": budgetMillis = Long.parseLong(value); break;
+                case "--samples": samples = Integer.parseInt(value); break;
+                case "--moves": bookMoves = Integer.parseInt(value); break;
+                case "--factions": factions = value.split(","); break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--out": out = Paths.get(value); break;
+                default: throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+    }
+
+    // [설명] 북 한 줄의 시작점: 플레이어 진영 / 스테이지 / 보스 쪽 일반병 열 순서
+    private record Layout(String playerTeam, int stage, int[] columns) { }
+
+    private void run() throws Exception {
+        List<Layout> layouts = enumerateLayouts();
+        System.out.printf("layouts=%d depth=%d budget=%dms samples=%d moves=%d threads=%d%n",
+            layouts.size(), depth, budgetMillis, samples, bookMoves, threads);
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (Layout layout : layouts) futures.add(pool.submit(() -> buildLine(layout)));
+
+        Map<Long, Short> entries = new TreeMap<>();
+        int skipped = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            long[] line = futures.get(i).get();
+            for (int k = 0; k + 1 < line.length; k += 2) entries.putIfAbsent(line[k], (short) line[k + 1]);
+            if (line.length == 0) skipped++;
+            if ((i + 1) % 60 == 0) {
+                System.out.printf("  %d/%d layouts, %d entries (%.0fs)%n", i + 1, futures.size(), entries.size(), (System.nanoTime() - start) / 1e9);
+            }
+        }
+        pool.shutdown();
+
+        long[] keys = new long[entries.size()];
+        short[] moves = new short[entries.size()];
+        int n = 0;
+        for (Map.Entry<Long, Short> e : entries.entrySet()) {
+            keys[n] = e.getKey();
+            moves[n++] = e.getValue();
+        }
+        OpeningBook book = new OpeningBook(keys, moves);
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+        try (DataOutputStream o = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(out)))) {
+            book.write(o);
+        }
+        System.out.printf("entries=%d (layouts without a book line: %d) -> %s (%.0fs)%n",
+            book.size(), skipped, out, (System.nanoTime() - start) / 1e9);
+    }
+
+    // 진영 x 스테이지 x 열 순열. 같은 AI 배치(방패병 두 명의 자리 교환)는 한 번만 넣습니다.
+    private List<Layout> enumerateLayouts() {
+        List<Layout> layouts = new ArrayList<>();
+        for (String faction : factions) {
+            for (int stage = 1; stage <= STAGE_COUNT; stage++) {
+                Set<Long> seen = new HashSet<>();
+                for (int[] columns : permutations()) {
+                    BattleState s = sample(new Layout(faction, stage, columns), 0, 0);
+                    s.sideToMove = 1 - s.roster.playerTeam;
+                    if (seen.add(OpeningBook.key(s))) layouts.add(new Layout(faction, stage, columns));
+                }
+            }
+        }
+        return layouts;
+    }
+
+    private static List<int[]> permutations() {
+        List<int[]> result = new ArrayList<>();
+        permute(SOLDIER_COLUMNS.clone(), 0, result);
+        return result;
+    }
+
+    private static void permute(int[] a, int k, List<int[]> out) {
+        if (k == a.length) {
+            out.add(a.clone());
+            return;
+        }
+        for (int i = k; i < a.length; i++) {
+            int t = a[k]; a[k] = a[i]; a[i] = t;
+            permute(a, k + 1, out);
+            t = a[k]; a[k] = a[i]; a[i] = t;
+        }
+    }
+
+    /**
+     * [메서드 설명] 한 배치의 북 줄을 만듭니다. 반환값은 (키, 수) 쌍을 이어 붙인 배열입니다.
+     * 표본마다 플레이어 배치(와 영웅)를 새로 뽑고, AI 는 지금까지 정한 북 수를 그대로 둡니다.
+     */
+    private long[] buildLine(Layout layout) {
+        SearchEngine bookEngine = new SearchEngine(new TranspositionTable(BOOK_TT_SIZE_LOG2));
+        SearchEngine playerEngine = new SearchEngine(new TranspositionTable(BOOK_TT_SIZE_LOG2));
+        int[] moves = new int[1024];
+        int[] line = new int[bookMoves];
+        long[] result = new long[bookMoves * 2];
+        int length = 0;
+
+        for (int ply = 0; ply < bookMoves; ply++) {
+            Map<Integer, Integer> votes = new TreeMap<>();
+            long key = 0;
+            int bestMove = -1;
+            int bestVotes = 0;
+            for (int sample = 0; sample < samples; sample++) {
+                BattleState s = sample(layout, ply, sample);
+                if (!playOpening(s, line, ply, playerEngine, moves)) continue;
+                key = OpeningBook.key(s);
+                int count = BattleRules.generateMoves(s, moves);
+                if (count == 0) continue;
+                SearchResult r = bookEngine.search(s, moves, count, budgetMillis, depth);
+                int from = s.cellOfUnit(BattleRules.moveUnit(r.bestMove));
+                int packed = (from << 6) | BattleRules.moveCell(r.bestMove);
+                int v = votes.merge(packed, 1, Integer::sum);
+                if (v > bestVotes) {
+                    bestVotes = v;
+                    bestMove = packed;
+                }
+            }
+            if (bestMove < 0) break;
+            line[ply] = bestMove;
+            result[length++] = key;
+            result[length++] = bestMove;
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    // 플레이어 수 -> (AI 북 수 -> 플레이어 수) x ply 로 진행해 AI 차례에서 멈춥니다. 접촉했거나 북 수를 둘 수 없으면 false.
+    private boolean playOpening(BattleState s, int[] line, int ply, SearchEngine playerEngine, int[] moves) {
+        for (int k = 0; ; k++) {
+            int count = BattleRules.generateMoves(s, moves);
+            if (count == 0) BattleRules.passTurn(s);
+            else BattleRules.applyMove(s, playerEngine.search(s, moves, count, PLAYER_BUDGET_MS, PLAYER_DEPTH).bestMove);
+            if (s.isGameOver() || OpeningBook.inContact(s)) return false;
+            if (k == ply) return true;
+
+            int fromCell = line[k] >> 6;
+            int unit = s.unitAt(BattleState.cellX(fromCell), BattleState.cellY(fromCell));
+            if (unit == BattleState.NO_UNIT || (s.occupied() & Bitboard.bit(line[k] & 63)) != 0) return false;
+            BattleRules.applyMove(s, BattleRules.encodeMove(unit, line[k] & 63));
+            if (s.isGameOver() || OpeningBook.inContact(s)) return false;
+        }
+    }
+
+    // 플레이어 쪽은 시드로 뽑은 무작위 배치 / 영웅, 보스 쪽 일반병은 layout 의 열 순서대로 둔 시작 국면
+    private BattleState sample(Layout layout, int ply, int sample) {
+        String[] names = layout.playerTeam().equals("HADES") ? UnitData.NAMES_HADES : UnitData.NAMES_ZEUS;
+        UnitData.Stat[] stats = layout.playerTeam().equals("HADES") ? UnitData.STATS_HADES : UnitData.STATS_ZEUS;
+        BattleState s;
+        // 영웅 선택과 StageGenerator 의 무작위 배치가 모두 공용 난수(MathUtils.random)를 쓰므로, 시드 설정부터 생성까지 직렬화해야 시드대로 재현됩니다.
+        synchronized (StageGenerator.class) {
+            MathUtils.random.setSeed(seed ^ (31L * layout.stage() + ply) * 1_000_003L ^ (long) sample << 40 ^ Arrays.hashCode(layout.columns()));
+            int heroIdx = MathUtils.random(HERO_COUNT - 1);
+            s = StageGenerator.createState(layout.stage(), layout.playerTeam(), names[heroIdx], new UnitData.Stat(stats[heroIdx]));
+        }
+
+        int aiTeam = 1 - s.roster.playerTeam;
+        int k = 0;
+        for (int u = 0; u < s.size() && k < SOLDIERS; u++) {
+            if (s.roster.team[u] == aiTeam && s.roster.unitClass[u] != Unit.UnitClass.HERO) s.x[u] = layout.columns()[k++];
+        }
+        s.rebuildDerivedData();
+        return s;
+    }
+}
@@ -0,0 +1,197 @@
+package com.hades.game.logic.ai;
+
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Chess Olympus AI - 루트 분할(root splitting) 병렬 탐색
+// 반복 심화의 각 깊이마다 첫 번째(이전 깊이의 최선) 수를 먼저 단독으로 탐색해 alpha 를 얻은 뒤,
+// 나머지 루트 수들을 fork/join 풀의 작업자들이 나눠 탐색합니다. 작업자마다 SearchEngine(상태 스택 + 전치표)을 따로 가지므로 잠금이 없습니다.
+public class ParallelSearchEngine {
+    private static final int ENGINE_TT_SIZE_LOG2 = TranspositionTable.DEFAULT_SIZE_LOG2 - 1;
+
+    private final ForkJoinPool pool;
+    private final SearchEngine mainEngine = new SearchEngine(new TranspositionTable(ENGINE_TT_SIZE_LOG2));
+    private final CopyOnWriteArrayList<SearchEngine> engines = new CopyOnWriteArrayList<>();
+    private final int threads;
+    private final int[] rootMoves = new int[1024];
+
+    // 현재 탐색 정보. 작업자는 자신이 준비한 탐색 번호가 다르면 먼저 beginSearch 를 호출합니다.
+    private volatile BattleState root;
+    private volatile long deadline;
+    private volatile int searchId = 0;
+    private final AtomicLong nodeCount = new AtomicLong();
+
+    // 작업자들이 공유하는 현재 깊이의 최선 값 (alpha). 더 좋은 수를 찾으면 즉시 다른 작업자의 가지치기에 반영됩니다.
+    private final AtomicInteger sharedAlpha = new AtomicInteger();
+    private int bestIdx;
+    private int bestScore;
+    private volatile boolean aborted;
+
+    // 누적 통계
+    private long totalNodes = 0;
+    private long totalNanos = 0;
+
+    public ParallelSearchEngine(int threads) {
+        this.threads = Math.max(1, threads);
+        // 작업자 스레드마다 전용 엔진을 하나씩 붙여 생성합니다.
+        this.pool = new ForkJoinPool(this.threads, Worker::new, null, false);
+    }
+
+    // [설명] 전용 SearchEngine 을 가진 fork/join 작업자 스레드
+    private final class Worker extends ForkJoinWorkerThread {
+        final SearchEngine engine = new SearchEngine(new TranspositionTable(ENGINE_TT_SIZE_LOG2));
+        int preparedSearchId = -1;
+
+        Worker(ForkJoinPool pool) {
+            super(pool);
+            setName("hades-ai-search-" + getPoolIndex());
+            setDaemon(true);
+            engines.add(engine);
+        }
+
+        @Override
+        protected void onTermination(Throwable exception) {
+            engines.remove(engine);
+            super.onTermination(exception);
+        }
+
+        SearchEngine prepare() {
+            if (preparedSearchId != searchId) {
+                engine.beginSearch(root, deadline);
+                preparedSearchId = searchId;
+            }
+            return engine;
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * [메서드 설명] SearchEngine.search 와 같은 계약으로, 루트 수를 여러 코어에 나눠 탐색합니다.
+     */
+    public SearchResult search(BattleState root, int[] candidates, int candidateCount, long budgetMillis, int maxDepth) {
+        long start = System.nanoTime();
+        this.root = root;
+        this.deadline = start + budgetMillis * 1_000_000L;
+        searchId++;
+        mainEngine.beginSearch(root, deadline);
+        nodeCount.set(0);
+        aborted = false;
+        long probesBefore = tableProbes();
+        long hitsBefore = tableHits();
+
+        int count = Math.min(candidateCount, rootMoves.length);
+        System.arraycopy(candidates, 0, rootMoves, 0, count);
+
+        SearchResult result = new SearchResult();
+        result.bestMove = count > 0 ? rootMoves[0] : BattleRules.PASS;
+        int depthLimit = Math.min(maxDepth, SearchEngine.MAX_PLY - 1);
+
+        for (int depth = 1; depth <= depthLimit && count > 0; depth++) {
+            // 1. 첫 번째 수는 호출 스레드가 단독으로 탐색하여 나머지 수의 기준 alpha 를 만듭니다.
+            int first = mainEngine.searchRootMove(rootMoves[0], depth, -SearchEngine.INFINITY);
+            if (first == SearchEngine.ABORTED) break;
+            bestIdx = 0;
+            bestScore = first;
+            sharedAlpha.set(first);
+
+            // 2. 나머지 수는 풀에서 나눠 처리합니다.
+            if (count > 1) pool.invoke(new RootTask(1, count, depth));
+            if (aborted) break;
+
+            result.bestMove = rootMoves[bestIdx];
+            result.score = bestScore;
+            result.depth = depth;
+            int move = rootMoves[bestIdx];
+            System.arraycopy(rootMoves, 0, rootMoves, 1, bestIdx);
+            rootMoves[0] = move;
+
+            if (Math.abs(bestScore) >= Evaluator.WIN_SCORE - SearchEngine.MAX_PLY) break;
+        }
+
+        result.nodes = nodeCount.get() + mainEngine.getNodes();
+        result.elapsedNanos = System.nanoTime() - start;
+        result.timedOut = aborted;
+        // 전치표는 엔진마다 따로이므로 주 엔진과 모든 작업자 표의 증가분을 합칩니다. (탐색 중 새로 생긴 작업자의 표는 0 부터 셉니다)
+        result.ttProbes = Math.max(0, tableProbes() - probesBefore);
+        result.ttHits = Math.max(0, tableHits() - hitsBefore);
+
+        totalNodes += result.nodes;
+        totalNanos += result.elapsedNanos;
+        return result;
+    }
+
+    private long tableProbes() {
+        long sum = mainEngine.getTable().getProbes();
+        for (SearchEngine engine : engines) sum += engine.getTable().getProbes();
+        return sum;
+    }
+
+    private long tableHits() {
+        long sum = mainEngine.getTable().getHits();
+        for (SearchEngine engine : engines) sum += engine.getTable().getHits();
+        return sum;
+    }
+
+    private synchronized void offer(int idx, int score) {
+        if (score > bestScore) {
+            bestScore = score;
+            bestIdx = idx;
+            sharedAlpha.accumulateAndGet(score, Math::max);
+        }
+    }
+
+    // [설명] 루트 수 구간 [from, to) 를 반으로 나눠 가며 작업자에게 분배합니다.
+    private class RootTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from, to, depth;
+
+        RootTask(int from, int to, int depth) {
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RootTask(from, mid, depth), new RootTask(mid, to, depth));
+                return;
+            }
+            if (aborted) return;
+            SearchEngine engine = ((Worker) Thread.currentThread()).prepare();
+            long before = engine.getNodes();
+            int score = engine.searchRootMove(rootMoves[from], depth, sharedAlpha.get());
+            nodeCount.addAndGet(engine.getNodes() - before);
+            if (score == SearchEngine.ABORTED) {
+                aborted = true;
+                return;
+            }
+            offer(from, score);
+        }
+    }
+
+    public void requestStop() {
+        aborted = true;
+        mainEngine.requestStop();
+        for (SearchEngine engine : engines) engine.requestStop();
+    }
+
+    public double getAverageNodesPerSecond() {
+        return totalNanos > 0 ? totalNodes * 1_000_000_000.0 / totalNanos : 0;
+    }
+
+    public void shutdown() {
+        requestStop();
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,88 @@
+package com.hades.game.logic.ai;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.hades.game.constants.UnitData;
+import com.hades.game.logic.StageGenerator;
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+
+// Chess Olympus AI - 병렬 탐색 확장성 벤치마크 (그래픽 없이 실행)
+// 실행: ./gradlew :lwjgl3:aiBenchmark
+// 5~7 스테이지 보스(헤라, 아프로디테, 제우스) 배치에서 보스 턴 국면을 만들어 1/2/4/8 스레드로 탐색하고,
+// (1) 고정 깊이를 끝내는 데 걸린 시간과 (2) 같은 시간 예산으로 도달한 깊이를 출력합니다.
+public class SearchBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final int[] BOSS_STAGES = {5, 6, 7};
+    private static final int FIXED_DEPTH = 5;
+    private static final long FIXED_DEPTH_BUDGET_MS = 60_000;
+    private static final long TIMED_BUDGET_MS = SearchEngine.BUDGET_NORMAL_MS;
+    private static final int POSITIONS_PER_STAGE = 4;
+    private static final int OPENING_PLIES = 7; // 홀수: 보스(AI) 차례에서 멈춥니다.
+    private static final long SEED = 20260101L;
+
+    public static void main(String[] args) {
+        BattleState[] positions = buildPositions();
+        System.out.printf("positions=%d fixedDepth=%d timedBudget=%dms cores=%d%n",
+            positions.length, FIXED_DEPTH, TIMED_BUDGET_MS, Runtime.getRuntime().availableProcessors());
+        System.out.println("threads | fixed-depth ms | speedup | nodes/sec | avg depth @" + TIMED_BUDGET_MS + "ms");
+
+        // JIT 워밍업은 버리는 엔진으로 한 번 돌립니다. 측정마다 새 엔진을 만들어 전치표가 이전 측정 결과를 재사용하지 않게 합니다.
+        ParallelSearchEngine warmup = new ParallelSearchEngine(1);
+        runAll(warmup, positions, FIXED_DEPTH, FIXED_DEPTH_BUDGET_MS);
+        warmup.shutdown();
+
+        double baseMillis = 0;
+        for (int threads : THREAD_COUNTS) {
+            ParallelSearchEngine engine = new ParallelSearchEngine(threads);
+            long nodes = 0;
+            long nanos = 0;
+            for (BattleState pos : positions) {
+                SearchResult r = search(engine, pos, FIXED_DEPTH_BUDGET_MS, FIXED_DEPTH);
+                nodes += r.nodes;
+                nanos += r.elapsedNanos;
+            }
+            engine.shutdown();
+            double millis = nanos / 1_000_000.0;
+            if (threads == 1) baseMillis = millis;
+
+            engine = new ParallelSearchEngine(threads);
+            double avgDepth = runAll(engine, positions, SearchEngine.MAX_PLY, TIMED_BUDGET_MS);
+            engine.shutdown();
+
+            System.out.printf("%7d | %14.1f | %6.2fx | %9.0f | %.2f%n",
+                threads, millis, baseMillis / millis, nodes * 1_000_000_000.0 / nanos, avgDepth);
+        }
+    }
+
+    private static double runAll(ParallelSearchEngine engine, BattleState[] positions, int maxDepth, long budgetMillis) {
+        int depthSum = 0;
+        for (BattleState pos : positions) depthSum += search(engine, pos, budgetMillis, maxDepth).depth;
+        return (double) depthSum / positions.length;
+    }
+
+    private static SearchResult search(ParallelSearchEngine engine, BattleState pos, long budgetMillis, int maxDepth) {
+        int[] moves = new int[1024];
+        int count = BattleRules.generateMoves(pos, moves);
+        return engine.search(pos, moves, count, budgetMillis, maxDepth);
+    }
+
+    // 스테이지 배치에서 무작위로 몇 수를 진행해 보스 턴 국면들을 만듭니다. (시드 고정)
+    private static BattleState[] buildPositions() {
+        MathUtils.random.setSeed(SEED);
+        BattleState[] positions = new BattleState[BOSS_STAGES.length * POSITIONS_PER_STAGE];
+        int[] moves = new int[1024];
+        int n = 0;
+        for (int stage : BOSS_STAGES) {
+            for (int i = 0; i < POSITIONS_PER_STAGE; i++) {
+                BattleState state = StageGenerator.createState(stage, "HADES", UnitData.NAMES_HADES[0], UnitData.STATS_HADES[0]);
+                for (int ply = 0; ply < OPENING_PLIES && !state.isGameOver(); ply++) {
+                    int count = BattleRules.generateMoves(state, moves);
+                    if (count == 0) BattleRules.passTurn(state);
+                    else BattleRules.applyMove(state, moves[MathUtils.random(count - 1)]);
+                }
+                positions[n++] = state;
+            }
+        }
+        return positions;
+    }
+}
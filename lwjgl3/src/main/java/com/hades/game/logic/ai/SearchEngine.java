@@ -0,0 +1,309 @@
+package com.hades.game.logic.ai;
+
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+import com.hades.game.logic.sim.MoveJournal;
+import java.util.function.BooleanSupplier;
+
+// Chess Olympus AI - negamax + alpha-beta 가지치기 탐색 엔진
+// 반복 심화(iterative deepening)로 1수부터 깊이를 늘려 가며, 턴당 시간 예산을 넘기면 마지막으로 끝까지 탐색한 깊이의 결과를 사용합니다.
+// 국면은 작업용 상태 하나에 수를 두고(make) MoveJournal 로 되돌리는(unmake) 방식으로 진행합니다.
+public class SearchEngine {
+    // 턴당 시간 예산 프리셋 (ms)
+    public static final long BUDGET_FAST_MS = 50;
+    public static final long BUDGET_NORMAL_MS = 200;
+    public static final long BUDGET_DEEP_MS = 1000;
+
+    public static final int MAX_PLY = 32;
+    private static final int MAX_MOVES = 1024;
+    static final int INFINITY = Evaluator.WIN_SCORE * 2;
+    public static final int ABORTED = Integer.MIN_VALUE;
+    private static final int TIME_CHECK_MASK = 1023;
+
+    private final TranspositionTable table;
+    private BattleState board;
+    private final MoveJournal journal = new MoveJournal();
+    private final int[][] moveStack = new int[MAX_PLY][MAX_MOVES];
+    private final int[] rootMoves = new int[MAX_MOVES];
+
+    private long nodes;
+    private long deadline;
+    private boolean aborted;
+    // 다른 스레드(렌더 스레드)에서 탐색 중단을 요청할 때 사용합니다.
+    private volatile boolean stopRequested;
+    // 탐색 하나에만 붙는 취소 조건 (예측 탐색용). beginSearch 가 지우지 않으므로 탐색 시작 직전에 온 취소도 놓치지 않습니다.
+    private BooleanSupplier cancel = null;
+
+    // 누적 통계 (게임 전체의 평균 nodes/sec 추적용)
+    private long totalNodes = 0;
+    private long totalNanos = 0;
+    private int totalSearches = 0;
+
+    public SearchEngine() {
+        this(new TranspositionTable());
+    }
+
+    public SearchEngine(TranspositionTable table) {
+        this.table = table;
+    }
+
+    // 진행 중인 탐색을 다음 시간 점검 지점에서 멈추게 합니다. 결과는 마지막으로 끝낸 깊이 기준입니다.
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * [메서드 설명] 루트 후보 수 목록을 주어진 순서대로 탐색하여 가장 좋은 수를 고릅니다.
+     * 후보 순서는 이전 깊이의 최선 수가 맨 앞으로 오도록 매 반복마다 갱신됩니다.
+     */
+    public SearchResult search(BattleState root, int[] candidates, int candidateCount, long budgetMillis, int maxDepth) {
+        return search(root, candidates, candidateCount, budgetMillis, maxDepth, null);
+    }
+
+    /**
+     * [메서드 설명] cancel 이 true 를 돌려주면 (시간 점검 지점마다 확인) 마지막으로 끝낸 깊이의 결과로 멈추는 탐색.
+     */
+    public SearchResult search(BattleState root, int[] candidates, int candidateCount, long budgetMillis, int maxDepth, BooleanSupplier cancel) {
+        long start = System.nanoTime();
+        beginSearch(root, start + budgetMillis * 1_000_000L);
+        this.cancel = cancel;
+        try {
+            return iterate(root, candidates, candidateCount, maxDepth, start);
+        } finally {
+            this.cancel = null;
+        }
+    }
+
+    private SearchResult iterate(BattleState root, int[] candidates, int candidateCount, int maxDepth, long start) {
+
+        int count = Math.min(candidateCount, MAX_MOVES);
+        System.arraycopy(candidates, 0, rootMoves, 0, count);
+
+        // 이전 턴/이전 탐색에서 이 국면의 최선 수를 알고 있다면 가장 먼저 봅니다.
+        long probesBefore = table.getProbes();
+        long hitsBefore = table.getHits();
+        long rootEntry = table.probe(root.hash);
+        if (rootEntry != -1L) {
+            int idx = indexOf(rootMoves, count, fromTableMove(root, TranspositionTable.move(rootEntry)));
+            if (idx > 0) promoteToFront(idx);
+        }
+
+        SearchResult result = new SearchResult();
+        result.bestMove = count > 0 ? rootMoves[0] : BattleRules.PASS;
+        int depthLimit = Math.min(maxDepth, MAX_PLY - 1);
+
+        if (cancel != null && cancel.getAsBoolean()) count = 0; // 시작 전에 이미 취소된 경우
+        for (int depth = 1; depth <= depthLimit && count > 0; depth++) {
+            int alpha = -INFINITY;
+            int bestIdx = -1;
+            int bestScore = -INFINITY;
+
+            for (int i = 0; i < count; i++) {
+                int mark = journal.mark();
+                BattleRules.applyMove(board, rootMoves[i]);
+                int score = -negamax(1, depth - 1, -INFINITY, -alpha);
+                if (aborted) break;
+                journal.undo(board, mark);
+
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestIdx = i;
+                    if (score > alpha) alpha = score;
+                }
+            }
+            if (aborted) break;
+
+            // 끝까지 마친 깊이의 결과만 채택하고, 최선 수를 다음 반복의 맨 앞으로 올립니다.
+            result.bestMove = rootMoves[bestIdx];
+            result.score = bestScore;
+            result.depth = depth;
+            promoteToFront(bestIdx);
+
+            if (Math.abs(bestScore) >= Evaluator.WIN_SCORE - MAX_PLY) break; // 승패가 확정된 경우 더 깊이 볼 필요가 없습니다.
+        }
+
+        result.nodes = nodes;
+        result.elapsedNanos = System.nanoTime() - start;
+        result.timedOut = aborted;
+        result.ttProbes = table.getProbes() - probesBefore;
+        result.ttHits = table.getHits() - hitsBefore;
+
+        totalNodes += result.nodes;
+        totalNanos += result.elapsedNanos;
+        totalSearches++;
+        return result;
+    }
+
+    /**
+     * [메서드 설명] 새 탐색을 준비합니다. (노드 수/중단 상태 초기화, 전치표 세대 증가)
+     * 병렬 탐색에서는 작업자마다 한 번씩 호출한 뒤 searchRootMove 를 여러 번 호출합니다.
+     */
+    public void beginSearch(BattleState root, long deadlineNanos) {
+        prepareBoard(root);
+        board.copyFrom(root);
+        journal.clear();
+        nodes = 0;
+        aborted = false;
+        stopRequested = false;
+        deadline = deadlineNanos;
+        table.newSearch();
+    }
+
+    /**
+     * [메서드 설명] 루트 수 하나를 주어진 깊이로 평가합니다. (병렬 루트 분할용)
+     * alpha 보다 좋지 않은 수는 alpha 이하의 값(상한)만 보장합니다. 시간이 다 되면 ABORTED 를 반환합니다.
+     */
+    public int searchRootMove(int move, int depth, int alpha) {
+        if (aborted) return ABORTED;
+        int mark = journal.mark();
+        BattleRules.applyMove(board, move);
+        int score = -negamax(1, depth - 1, -INFINITY, -alpha);
+        if (aborted) return ABORTED;
+        journal.undo(board, mark);
+        return score;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    private int negamax(int ply, int depth, int alpha, int beta) {
+        nodes++;
+        if ((nodes & TIME_CHECK_MASK) == 0 && (stopRequested || System.nanoTime() > deadline || (cancel != null && cancel.getAsBoolean()))) {
+            aborted = true;
+            return 0;
+        }
+
+        BattleState state = board;
+        if (state.isGameOver()) {
+            // 빨리 이기고 늦게 지는 쪽을 선호하도록 ply 만큼 보정합니다.
+            return state.winner == state.sideToMove ? Evaluator.WIN_SCORE - ply : -(Evaluator.WIN_SCORE - ply);
+        }
+
+        // [전치표] 같은 국면을 충분한 깊이로 이미 계산했다면 그 값을 바로 사용합니다.
+        int alphaOrig = alpha;
+        int ttMove = TranspositionTable.NO_MOVE;
+        long entry = table.probe(state.hash);
+        if (entry != -1L) {
+            ttMove = TranspositionTable.move(entry);
+            if (TranspositionTable.depth(entry) >= depth) {
+                int ttScore = fromTableScore(TranspositionTable.score(entry), ply);
+                int flag = TranspositionTable.flag(entry);
+                if (flag == TranspositionTable.FLAG_EXACT) return ttScore;
+                if (flag == TranspositionTable.FLAG_LOWER && ttScore > alpha) alpha = ttScore;
+                else if (flag == TranspositionTable.FLAG_UPPER && ttScore < beta) beta = ttScore;
+                if (alpha >= beta) return ttScore;
+            }
+        }
+
+        if (depth <= 0 || ply >= MAX_PLY - 1) {
+            int eval = Evaluator.evaluate(state);
+            table.store(state.hash, 0, TranspositionTable.FLAG_EXACT, eval, TranspositionTable.NO_MOVE);
+            return eval;
+        }
+
+        int[] moves = moveStack[ply];
+        int count = BattleRules.generateMoves(state, moves);
+        int mark = journal.mark();
+
+        if (count == 0) {
+            BattleRules.passTurn(state);
+            int score = -negamax(ply + 1, depth - 1, -beta, -alpha);
+            if (!aborted) journal.undo(state, mark);
+            return score;
+        }
+
+        if (ttMove != TranspositionTable.NO_MOVE) {
+            int idx = indexOf(moves, count, fromTableMove(state, ttMove));
+            if (idx > 0) {
+                moves[idx] = moves[0];
+                moves[0] = fromTableMove(state, ttMove);
+            }
+        }
+
+        int best = -INFINITY;
+        int bestMove = moves[0];
+        for (int i = 0; i < count; i++) {
+            BattleRules.applyMove(state, moves[i]);
+            int score = -negamax(ply + 1, depth - 1, -beta, -alpha);
+            if (aborted) return 0; // 중단된 탐색의 작업 상태는 다음 beginSearch 에서 루트로 다시 채웁니다.
+            journal.undo(state, mark);
+
+            if (score > best) {
+                best = score;
+                bestMove = moves[i];
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) break; // beta cut
+                }
+            }
+        }
+
+        int flag = best <= alphaOrig ? TranspositionTable.FLAG_UPPER
+            : best >= beta ? TranspositionTable.FLAG_LOWER : TranspositionTable.FLAG_EXACT;
+        table.store(state.hash, depth, flag, toTableScore(best, ply), toTableMove(state, bestMove));
+        return best;
+    }
+
+    // --- [전치표 변환] 승패 점수는 루트 기준이 아닌 해당 국면 기준으로 저장합니다. ---
+    private static int toTableScore(int score, int ply) {
+        if (score >= Evaluator.WIN_SCORE - MAX_PLY) return score + ply;
+        if (score <= -(Evaluator.WIN_SCORE - MAX_PLY)) return score - ply;
+        return score;
+    }
+
+    private static int fromTableScore(int score, int ply) {
+        if (score >= Evaluator.WIN_SCORE - MAX_PLY) return score - ply;
+        if (score <= -(Evaluator.WIN_SCORE - MAX_PLY)) return score + ply;
+        return score;
+    }
+
+    // 엔진 수(유닛 인덱스 기반) -> 전치표 수(출발 칸 / 도착 칸)
+    private static int toTableMove(BattleState state, int move) {
+        return (state.cellOfUnit(BattleRules.moveUnit(move)) << 6) | BattleRules.moveCell(move);
+    }
+
+    private static int fromTableMove(BattleState state, int tableMove) {
+        int from = tableMove >>> 6;
+        int unit = state.unitAt(BattleState.cellX(from), BattleState.cellY(from));
+        if (unit == BattleState.NO_UNIT) return BattleRules.PASS;
+        return BattleRules.encodeMove(unit, tableMove & 63);
+    }
+
+    private static int indexOf(int[] moves, int count, int move) {
+        if (move == BattleRules.PASS) return -1;
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) return i;
+        }
+        return -1;
+    }
+
+    private void promoteToFront(int idx) {
+        int move = rootMoves[idx];
+        System.arraycopy(rootMoves, 0, rootMoves, 1, idx);
+        rootMoves[0] = move;
+    }
+
+    // 명단이 바뀐 경우(새 전투, 새 턴의 스냅샷)에만 작업용 상태를 다시 만듭니다.
+    private void prepareBoard(BattleState root) {
+        if (board != null && board.roster == root.roster) return;
+        board = new BattleState(root.roster);
+        board.journal = journal;
+    }
+
+    public long getTotalNodes() {
+        return totalNodes;
+    }
+
+    public int getTotalSearches() {
+        return totalSearches;
+    }
+
+    public double getAverageNodesPerSecond() {
+        return totalNanos > 0 ? totalNodes * 1_000_000_000.0 / totalNanos : 0;
+    }
+}
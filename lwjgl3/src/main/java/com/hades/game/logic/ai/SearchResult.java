@@ -0,0 +1,34 @@
+package com.hades.game.logic.ai;
+
+// Chess Olympus AI - 한 번의 탐색 결과와 비용(노드 수, 소요 시간)
+public class SearchResult {
+    public int bestMove;
+    public int score;
+    public int depth;
+    public long nodes;
+    public long elapsedNanos;
+    public boolean timedOut;
+
+    // 이번 탐색 동안의 전치표 조회/적중 수
+    public long ttProbes;
+    public long ttHits;
+
+    public double elapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    // 초당 탐색 노드 수 (nodes/sec)
+    public double nodesPerSecond() {
+        return elapsedNanos > 0 ? nodes * 1_000_000_000.0 / elapsedNanos : 0;
+    }
+
+    public double ttHitRate() {
+        return ttProbes > 0 ? (double) ttHits / ttProbes : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("depth=%d score=%d nodes=%d time=%.1fms nps=%.0f tt=%.1f%%%s",
+            depth, score, nodes, elapsedMillis(), nodesPerSecond(), ttHitRate() * 100, timedOut ? " (timeout)" : "");
+    }
+}
@@ -0,0 +1,154 @@
+package com.hades.game.logic.ai;
+
+import java.util.Arrays;
+
+// Chess Olympus AI - Zobrist 해시 기반 전치표 (transposition table)
+// 고정 크기(2의 거듭제곱) 기본형 배열 두 개로 이루어지며, 한 슬롯에 키 1개 + 압축된 정보 1개(long)를 저장합니다.
+// 교체 정책: 더 깊이 탐색한 결과를 우선 보존하되, 이전 턴(세대)의 기록은 언제든 덮어씁니다.
+public final class TranspositionTable {
+    public static final int FLAG_EXACT = 0;
+    public static final int FLAG_LOWER = 1; // beta cut: 실제 값 >= score
+    public static final int FLAG_UPPER = 2; // fail low: 실제 값 <= score
+
+    // 수는 (출발 칸 << 6) | 도착 칸 12비트로 보관합니다. 유닛 인덱스와 무관하므로 턴이 바뀌어도 유효합니다.
+    public static final int NO_MOVE = 0xFFF;
+
+    public static final int DEFAULT_SIZE_LOG2 = 18; // 2^18 슬롯 * 16바이트 = 4MB
+
+    // data 비트 배치: [score 32][depth 8][flag 2][move 12][age 8]
+    private static final int DEPTH_SHIFT = 32;
+    private static final int FLAG_SHIFT = 40;
+    private static final int MOVE_SHIFT = 42;
+    private static final int AGE_SHIFT = 54;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+    private int age = 0;
+
+    // 통계
+    private long probes = 0;
+    private long hits = 0;
+    private long stores = 0;
+    private int filled = 0;
+
+    public TranspositionTable() {
+        this(DEFAULT_SIZE_LOG2);
+    }
+
+    public TranspositionTable(int sizeLog2) {
+        int size = 1 << sizeLog2;
+        keys = new long[size];
+        data = new long[size];
+        mask = size - 1;
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(data, -1L); // 빈 슬롯 표시 (유효한 기록은 최상위 비트가 0)
+        filled = 0;
+        resetStats();
+    }
+
+    // 새 탐색(턴)이 시작될 때 호출하여 세대를 올립니다.
+    public void newSearch() {
+        age = (age + 1) & 0xFF;
+    }
+
+    /**
+     * [메서드 설명] 해시에 해당하는 기록을 찾습니다. 없으면 -1L 을 반환합니다.
+     * 반환값은 score / depth / flag / move 메서드로 해석합니다.
+     */
+    public long probe(long key) {
+        probes++;
+        int idx = (int) key & mask;
+        long entry = data[idx];
+        if (entry != -1L && keys[idx] == key) {
+            hits++;
+            return entry;
+        }
+        return -1L;
+    }
+
+    public void store(long key, int depth, int flag, int score, int move) {
+        int idx = (int) key & mask;
+        long old = data[idx];
+        if (old == -1L) {
+            filled++;
+        } else if (age(old) == age && depth(old) > depth) {
+            return; // 같은 턴에 더 깊이 탐색한 기록은 보존합니다.
+        } else if (keys[idx] == key && move == NO_MOVE) {
+            move = move(old); // 같은 국면이면 기존 최선 수는 유지합니다.
+        }
+        keys[idx] = key;
+        data[idx] = ((long) score & 0xFFFFFFFFL)
+            | ((long) Math.min(depth, 0xFF) << DEPTH_SHIFT)
+            | ((long) flag << FLAG_SHIFT)
+            | ((long) (move & 0xFFF) << MOVE_SHIFT)
+            | ((long) age << AGE_SHIFT);
+        stores++;
+    }
+
+    public static int score(long entry) {
+        return (int) entry;
+    }
+
+    public static int depth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    public static int flag(long entry) {
+        return (int) (entry >>> FLAG_SHIFT) & 0x3;
+    }
+
+    public static int move(long entry) {
+        return (int) (entry >>> MOVE_SHIFT) & 0xFFF;
+    }
+
+    private static int age(long entry) {
+        return (int) (entry >>> AGE_SHIFT) & 0xFF;
+    }
+
+    // --- [통계: 메모리 크기 결정용] ---
+    public void resetStats() {
+        probes = 0;
+        hits = 0;
+        stores = 0;
+    }
+
+    public long getProbes() {
+        return probes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getStores() {
+        return stores;
+    }
+
+    public double hitRate() {
+        return probes > 0 ? (double) hits / probes : 0;
+    }
+
+    // 채워진 슬롯 비율 (0~1)
+    public double occupancy() {
+        return (double) filled / keys.length;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long memoryBytes() {
+        return (long) keys.length * (Long.BYTES * 2);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TT %dK slots (%.1fMB) hit=%.1f%% fill=%.1f%%",
+            capacity() / 1024, memoryBytes() / (1024.0 * 1024.0), hitRate() * 100, occupancy() * 100);
+    }
+}
@@ -0,0 +1,206 @@
+package com.hades.game.logic.balance;
+
+import com.hades.game.constants.UnitData;
+import com.hades.game.logic.StageGenerator;
+import com.hades.game.logic.ai.SearchEngine;
+import com.hades.game.logic.ai.SearchResult;
+import com.hades.game.logic.ai.TranspositionTable;
+import com.hades.game.logic.sim.BattleRoster;
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Chess Olympus: HADES vs ZEUS - AI 대 AI 밸런스 시뮬레이터 (그래픽 없이 실행)
+// 실행: ./gradlew :lwjgl3:simulate --args="--games 2000 --depth 1 --out balance.csv"
+// 하데스 영웅(솜주먹~연초록) x 스테이지(1~7, 데메테르~제우스) 조합마다 StageGenerator 배치로 전투를 끝까지 진행하고,
+// 승률 / 평균 턴 수 / 진영별 가한 피해 분포를 CSV로 저장합니다. 전투들은 모든 코어에 나눠 병렬로 진행됩니다.
+public class BattleSimulator {
+    private static final String PLAYER_TEAM = "HADES";
+    private static final int STAGE_COUNT = UnitData.STATS_ZEUS.length;
+    private static final int BATCH_SIZE = 64; // 작업 하나가 연속으로 처리할 전투 수
+    private static final int SIM_TT_SIZE_LOG2 = 12;
+    private static final long NO_TIME_LIMIT_MS = 3_600_000L; // 고정 깊이로만 탐색합니다.
+
+    private int gamesPerMatchup = 2000;
+    private int depth = 1;
+    private int maxTurns = 300;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 20260101L;
+    private Path out = Paths.get("balance.csv");
+
+    public static void main(String[] args) throws Exception {
+        BattleSimulator sim = new BattleSimulator();
+        sim.parseArgs(args);
+        sim.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--games": gamesPerMatchup = Integer.parseInt(value); break;
+                case "--depth": depth = Integer.parseInt(value); break;
+                case "--max-turns": maxTurns = Integer.parseInt(value); break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--out": out = Paths.get(value); break;
+                default: throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+    }
+
+    // [설명] 한 조합(영웅 x 스테이지)의 전투 결과. 전투 인덱스별 칸에 기록하므로 작업자 간 동기화가 필요 없습니다.
+    private static final class Matchup {
+        final int heroIdx;
+        final int stage;
+        final int[] winner;      // BattleRoster.TEAM_* 또는 BattleState.NO_WINNER(무승부)
+        final int[] turns;
+        final int[] playerDamage; // 플레이어 진영이 가한 총 피해
+        final int[] bossDamage;   // 보스 진영이 가한 총 피해
+
+        Matchup(int heroIdx, int stage, int games) {
+            this.heroIdx = heroIdx;
+            this.stage = stage;
+            this.winner = new int[games];
+            this.turns = new int[games];
+            this.playerDamage = new int[games];
+            this.bossDamage = new int[games];
+        }
+    }
+
+    // [설명] 작업 스레드마다 하나씩 갖는 탐색기와 버퍼
+    private final class Worker {
+        final SearchEngine engine = new SearchEngine(new TranspositionTable(SIM_TT_SIZE_LOG2));
+        final int[] moves = new int[1024];
+        final int[] hpBefore = new int[BattleRoster.MAX_UNITS];
+
+        void play(Matchup m, int game, SplittableRandom rng) {
+            BattleState s;
+            // StageGenerator 의 무작위 배치는 공용 난수(MathUtils.random)를 쓰므로 생성만 직렬화합니다.
+            synchronized (StageGenerator.class) {
+                s = StageGenerator.createState(m.stage, PLAYER_TEAM,
+                    UnitData.NAMES_HADES[m.heroIdx], new UnitData.Stat(UnitData.STATS_HADES[m.heroIdx]));
+            }
+            engine.getTable().clear(); // 조합마다 영웅 스탯이 달라 같은 해시라도 값이 다르므로 전투마다 비웁니다.
+            int[] damage = new int[2];
+            int turn = 0;
+            for (; turn < maxTurns && !s.isGameOver(); turn++) {
+                int count = BattleRules.generateMoves(s, moves);
+                if (count == 0) {
+                    BattleRules.passTurn(s);
+                    continue;
+                }
+                shuffle(moves, count, rng); // 동점인 수 중 하나를 무작위로 고르도록 순서를 섞습니다.
+                SearchResult r = engine.search(s, moves, count, NO_TIME_LIMIT_MS, depth);
+
+                System.arraycopy(s.hp, 0, hpBefore, 0, s.size());
+                BattleRules.applyMove(s, r.bestMove);
+                for (int u = 0; u < s.size(); u++) {
+                    int lost = hpBefore[u] - s.hp[u];
+                    if (lost > 0) damage[1 - s.roster.team[u]] += lost; // 맞은 유닛의 상대 진영이 가한 피해
+                }
+            }
+            int playerTeam = s.roster.playerTeam;
+            m.winner[game] = s.winner;
+            m.turns[game] = turn;
+            m.playerDamage[game] = damage[playerTeam];
+            m.bossDamage[game] = damage[1 - playerTeam];
+        }
+    }
+
+    private static void shuffle(int[] a, int n, SplittableRandom rng) {
+        for (int i = n - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    private void run() throws Exception {
+        List<Matchup> matchups = new ArrayList<>();
+        for (int h = 0; h < UnitData.STATS_HADES.length; h++) {
+            for (int stage = 1; stage <= STAGE_COUNT; stage++) matchups.add(new Matchup(h, stage, gamesPerMatchup));
+        }
+        int totalGames = matchups.size() * gamesPerMatchup;
+        System.out.printf("matchups=%d games/matchup=%d total=%d depth=%d threads=%d%n",
+            matchups.size(), gamesPerMatchup, totalGames, depth, threads);
+
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> tasks = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            int taskId = 0;
+            for (Matchup m : matchups) {
+                for (int from = 0; from < gamesPerMatchup; from += BATCH_SIZE) {
+                    int begin = from;
+                    int end = Math.min(from + BATCH_SIZE, gamesPerMatchup);
+                    SplittableRandom rng = new SplittableRandom(seed * 31 + taskId++);
+                    tasks.add(pool.submit(() -> {
+                        Worker w = workers.get();
+                        for (int g = begin; g < end; g++) w.play(m, g, rng);
+                    }));
+                }
+            }
+            for (Future<?> f : tasks) f.get();
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d battles in %.1fs (%.0f battles/min)%n", totalGames, seconds, totalGames / seconds * 60);
+
+        writeCsv(matchups);
+        System.out.println("saved: " + out.toAbsolutePath());
+    }
+
+    private void writeCsv(List<Matchup> matchups) throws IOException {
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+        try (PrintWriter w = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            w.println("hero,boss,stage,games,player_win_rate,boss_win_rate,draw_rate,avg_turns,"
+                + "player_dmg_mean,player_dmg_p10,player_dmg_p50,player_dmg_p90,"
+                + "boss_dmg_mean,boss_dmg_p10,boss_dmg_p50,boss_dmg_p90");
+            for (Matchup m : matchups) {
+                int games = m.winner.length;
+                int playerWins = 0, bossWins = 0;
+                long turnSum = 0;
+                for (int g = 0; g < games; g++) {
+                    if (m.winner[g] == BattleRoster.TEAM_HADES) playerWins++;
+                    else if (m.winner[g] == BattleRoster.TEAM_ZEUS) bossWins++;
+                    turnSum += m.turns[g];
+                }
+                w.println(String.format(Locale.ROOT, "%s,%s,%d,%d,%.4f,%.4f,%.4f,%.2f,%s,%s",
+                    UnitData.NAMES_HADES[m.heroIdx], UnitData.NAMES_ZEUS[m.stage - 1], m.stage, games,
+                    (double) playerWins / games, (double) bossWins / games, (double) (games - playerWins - bossWins) / games,
+                    (double) turnSum / games, distribution(m.playerDamage), distribution(m.bossDamage)));
+            }
+        }
+    }
+
+    // 평균, 10/50/90 백분위
+    private static String distribution(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        return String.format(Locale.ROOT, "%.1f,%d,%d,%d", mean,
+            percentile(sorted, 0.10), percentile(sorted, 0.50), percentile(sorted, 0.90));
+    }
+
+    private static int percentile(int[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) (p * sorted.length))];
+    }
+}
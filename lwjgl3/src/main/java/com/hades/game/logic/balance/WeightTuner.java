@@ -0,0 +1,281 @@
+package com.hades.game.logic.balance;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.hades.game.constants.UnitData;
+import com.hades.game.entities.Unit;
+import com.hades.game.logic.StageGenerator;
+import com.hades.game.logic.ai.MoveHeuristic;
+import com.hades.game.logic.ai.MoveWeights;
+import com.hades.game.logic.ai.SearchEngine;
+import com.hades.game.logic.ai.SearchResult;
+import com.hades.game.logic.ai.TranspositionTable;
+import com.hades.game.logic.sim.BattleRules;
+import com.hades.game.logic.sim.BattleState;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Chess Olympus: HADES vs ZEUS - 휴리스틱 가중치 자동 튜너 (SPSA, 그래픽 없이 실행)
+// 실행: ./gradlew :lwjgl3:tuneWeights --args="--iterations 60 --games 140 --out assets/data/ai_weights.json"
+// 보스 진영은 MoveHeuristic 점수가 가장 높은 수를 바로 두고(탐색 없이), 플레이어 진영은 고정 깊이 탐색으로 둡니다.
+// 매 반복마다 모든 가중치를 같은 크기로 +/- 무작위 방향으로 흔든 두 벌을 같은 배치/난수로 대국시켜 점수 차로 기울기를 추정합니다.
+// 가중치는 기본값에 대한 배율로 다루며, 끝나면 기본값과 새 값을 새 배치에서 다시 비교한 뒤 JSON 으로 내보냅니다.
+public class WeightTuner {
+    private static final int STAGE_COUNT = UnitData.STATS_ZEUS.length;
+    private static final int HERO_COUNT = UnitData.STATS_HADES.length;
+    private static final int SIM_TT_SIZE_LOG2 = 12;
+    private static final long NO_TIME_LIMIT_MS = 3_600_000L;
+    private static final int RECENT_ACTORS = 2;
+    private static final int VALIDATION_FACTOR = 4; // 마지막 비교는 평가 한 번의 몇 배 대국으로 할지
+
+    // SPSA 계수 (Spall 권장 지수 0.602 / 0.101)
+    private static final double STEP_A = 0.6;
+    private static final double STEP_STABILITY = 10;
+    private static final double PERTURB_C = 0.25;
+    private static final double MIN_SCALE = 0.05; // 벌점이 음수가 되면 AILogic 의 조용한 수 가지치기 전제가 깨지므로 양수로 묶습니다.
+    private static final double MAX_SCALE = 5.0;
+
+    private int iterations = 60;
+    private int games = 140; // 한 번 평가할 때의 대국 수 (영웅 x 스테이지 35 조합의 배수가 고르게 섞입니다)
+    private int depth = 1;
+    private int maxTurns = 300;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 20260101L;
+    private Path in = null;
+    private Path out = Paths.get("assets", MoveWeights.DATA_PATH);
+
+    public static void main(String[] args) throws Exception {
+        WeightTuner tuner = new WeightTuner();
+        tuner.parseArgs(args);
+        tuner.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--iterations": iterations = Integer.parseInt(value); break;
+                case "--games": games = Integer.parseInt(value); break;
+                case "--depth": depth = Integer.parseInt(value); break;
+                case "--max-turns": maxTurns = Integer.parseInt(value); break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--in": in = Paths.get(value); break;
+                case "--out": out = Paths.get(value); break;
+                default: throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        float[] base = new MoveWeights().toArray();
+        double[] theta = new double[base.length];
+        float[] start = in != null ? MoveWeights.fromJson(Files.readString(in, StandardCharsets.UTF_8)).toArray() : base;
+        for (int i = 0; i < theta.length; i++) theta[i] = start[i] / base[i];
+
+        System.out.printf("params=%d iterations=%d games/eval=%d opponentDepth=%d threads=%d%n",
+            theta.length, iterations, games, depth, threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        SplittableRandom rng = new SplittableRandom(seed);
+        long startNanos = System.nanoTime();
+        try {
+            for (int k = 0; k < iterations; k++) {
+                double ak = STEP_A / Math.pow(k + 1 + STEP_STABILITY, 0.602);
+                double ck = PERTURB_C / Math.pow(k + 1, 0.101);
+                int[] delta = new int[theta.length];
+                double[] plus = new double[theta.length];
+                double[] minus = new double[theta.length];
+                for (int i = 0; i < theta.length; i++) {
+                    delta[i] = rng.nextBoolean() ? 1 : -1;
+                    plus[i] = clamp(theta[i] + ck * delta[i]);
+                    minus[i] = clamp(theta[i] - ck * delta[i]);
+                }
+                long gameSeed = rng.nextLong();
+                double fPlus = evaluate(pool, toWeights(base, plus), gameSeed, games);
+                double fMinus = evaluate(pool, toWeights(base, minus), gameSeed, games);
+                for (int i = 0; i < theta.length; i++) {
+                    theta[i] = clamp(theta[i] + ak * (fPlus - fMinus) / (2 * ck * delta[i]));
+                }
+                System.out.printf(Locale.ROOT, "iter %3d  f+=%.4f f-=%.4f  step=%.4f%n", k + 1, fPlus, fMinus, ak);
+            }
+
+            // 새 배치에서 기본값과 다시 비교합니다. (튜닝에 쓴 배치와 겹치지 않는 시드)
+            MoveWeights tuned = toWeights(base, theta);
+            long validationSeed = rng.nextLong();
+            double tunedScore = evaluate(pool, tuned, validationSeed, games * VALIDATION_FACTOR);
+            double baseScore = evaluate(pool, new MoveWeights(), validationSeed, games * VALIDATION_FACTOR);
+            System.out.printf(Locale.ROOT, "validation: default=%.4f tuned=%.4f (%.1fs)%n",
+                baseScore, tunedScore, (System.nanoTime() - startNanos) / 1e9);
+
+            float[] values = tuned.toArray();
+            for (int i = 0; i < values.length; i++) {
+                System.out.printf(Locale.ROOT, "  %-28s %10.1f (x%.2f)%n", MoveWeights.NAMES[i], values[i], theta[i]);
+            }
+            if (out.getParent() != null) Files.createDirectories(out.getParent());
+            Files.writeString(out, tuned.toJson(), StandardCharsets.UTF_8);
+            System.out.println("saved: " + out.toAbsolutePath());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static double clamp(double v) {
+        return Math.max(MIN_SCALE, Math.min(MAX_SCALE, v));
+    }
+
+    private static MoveWeights toWeights(float[] base, double[] theta) {
+        float[] v = new float[base.length];
+        for (int i = 0; i < v.length; i++) v[i] = (float) (base[i] * theta[i]);
+        return new MoveWeights(v);
+    }
+
+    /**
+     * [메서드 설명] 보스 진영이 weights 로 count 판을 둔 평균 점수. 같은 gameSeed 면 배치와 무작위 선택이 모두 같습니다.
+     */
+    private double evaluate(ExecutorService pool, MoveWeights weights, long gameSeed, int count) throws Exception {
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+        double[] scores = new double[count];
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int g = 0; g < count; g++) {
+            int game = g;
+            tasks.add(pool.submit(() -> {
+                scores[game] = workers.get().play(weights, game, gameSeed + game);
+            }));
+        }
+        for (Future<?> f : tasks) f.get();
+        double sum = 0;
+        for (double s : scores) sum += s;
+        return sum / count;
+    }
+
+    // [설명] 작업 스레드마다 하나씩 갖는 탐색기와 버퍼
+    private final class Worker {
+        final SearchEngine engine = new SearchEngine(new TranspositionTable(SIM_TT_SIZE_LOG2));
+        final int[] moves = new int[1024];
+        final int[] recent = new int[RECENT_ACTORS];
+
+        // 보스 진영 기준 점수: 승패(+1/0/-1)에 남은 체력 비율 차이를 더해, 같은 승패라도 더 잘 싸운 쪽이 높게 나옵니다.
+        double play(MoveWeights weights, int game, long gameSeed) {
+            int stage = 1 + game % STAGE_COUNT;
+            int hero = (game / STAGE_COUNT) % HERO_COUNT;
+            BattleState s;
+            // StageGenerator 의 무작위 배치는 공용 난수(MathUtils.random)를 쓰므로 생성만 직렬화합니다.
+            synchronized (StageGenerator.class) {
+                MathUtils.random.setSeed(gameSeed);
+                s = StageGenerator.createState(stage, "HADES", UnitData.NAMES_HADES[hero], new UnitData.Stat(UnitData.STATS_HADES[hero]));
+            }
+            s.enableThreatMap();
+            engine.getTable().clear();
+            SplittableRandom rng = new SplittableRandom(gameSeed);
+            int bossTeam = 1 - s.roster.playerTeam;
+            recent[0] = recent[1] = -1;
+
+            for (int turn = 0; turn < maxTurns && !s.isGameOver(); turn++) {
+                int move;
+                if (s.sideToMove == bossTeam) {
+                    move = pickHeuristicMove(s, weights, rng);
+                } else {
+                    int count = BattleRules.generateMoves(s, moves);
+                    if (count == 0) {
+                        move = BattleRules.PASS;
+                    } else {
+                        shuffle(moves, count, rng);
+                        SearchResult r = engine.search(s, moves, count, NO_TIME_LIMIT_MS, depth);
+                        move = r.bestMove;
+                    }
+                }
+                if (move == BattleRules.PASS) {
+                    BattleRules.passTurn(s);
+                } else {
+                    if (s.sideToMove == bossTeam) {
+                        recent[1] = recent[0];
+                        recent[0] = BattleRules.moveUnit(move);
+                    }
+                    BattleRules.applyMove(s, move);
+                }
+            }
+
+            double outcome = s.winner == bossTeam ? 1 : (s.winner == s.roster.playerTeam ? -1 : 0);
+            return outcome + hpShare(s, bossTeam) - hpShare(s, s.roster.playerTeam);
+        }
+
+        /**
+         * [메서드 설명] AILogic 의 후보 점수 규칙(전략 추첨, 최근 행동 벌점, 영웅 대기, 아군 지원)으로 가장 좋은 수 하나를 고릅니다.
+         */
+        private int pickHeuristicMove(BattleState s, MoveWeights w, SplittableRandom rng) {
+            int count = BattleRules.generateMoves(s, moves);
+            if (count == 0) return BattleRules.PASS;
+            shuffle(moves, count, rng);
+
+            float roll = (float) rng.nextDouble() * 100f;
+            String strategy = roll < 40f ? MoveHeuristic.EFFICIENCY : roll < 70f ? MoveHeuristic.ASSASSIN : MoveHeuristic.DEFENSIVE;
+            int side = s.sideToMove;
+            int enemyTeam = 1 - side;
+
+            boolean playerInMyTerritory = false;
+            int ally = -1;
+            float lowestHpRatio = 1.1f;
+            for (int u = 0; u < s.size(); u++) {
+                if (s.hp[u] <= 0) continue;
+                if (s.roster.team[u] != side) {
+                    if (!MoveHeuristic.isOwnTerritory(s, u, s.y[u])) playerInMyTerritory = true;
+                } else if (s.threats.isThreatened(enemyTeam, s.cellOfUnit(u))) {
+                    float ratio = (float) s.hp[u] / s.roster.maxHp[u];
+                    if (ratio < lowestHpRatio) {
+                        lowestHpRatio = ratio;
+                        ally = u;
+                    }
+                }
+            }
+            int allyCell = ally >= 0 ? s.cellOfUnit(ally) : -1;
+
+            int best = BattleRules.PASS;
+            float bestScore = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                int u = BattleRules.moveUnit(moves[i]);
+                int cell = BattleRules.moveCell(moves[i]);
+                if (s.roster.unitClass[u] == Unit.UnitClass.HERO && !playerInMyTerritory
+                    && !s.threats.isThreatened(enemyTeam, s.cellOfUnit(u)) && MoveHeuristic.targets(s, u, s.cellOfUnit(u)) == 0) {
+                    continue;
+                }
+                long targets = MoveHeuristic.targets(s, u, cell);
+                float score = MoveHeuristic.score(w, s, u, cell, targets, MoveHeuristic.damage(s, u), strategy);
+                if (u == recent[0] || u == recent[1]) score -= w.recentActorPenalty;
+                if (u != ally) score += MoveHeuristic.allySupport(w, cell, allyCell, targets);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = moves[i];
+                }
+            }
+            return best;
+        }
+    }
+
+    private static double hpShare(BattleState s, int team) {
+        int hp = 0;
+        int max = 0;
+        for (int u = 0; u < s.size(); u++) {
+            if (s.roster.team[u] != team) continue;
+            hp += Math.max(0, s.hp[u]);
+            max += s.roster.maxHp[u];
+        }
+        return max > 0 ? (double) hp / max : 0;
+    }
+
+    private static void shuffle(int[] a, int n, SplittableRandom rng) {
+        for (int i = n - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.hades.game.logic.sim;
+
+import com.hades.game.constants.GameConfig;
+import com.hades.game.constants.SkillData;
+import com.hades.game.constants.Team;
+import com.hades.game.constants.UnitData;
+import com.hades.game.entities.Unit;
+
+// Chess Olympus: HADES vs ZEUS - 전투 참가 유닛의 고정 데이터
+// 전투 중 변하지 않는 스탯과 권능 정보를 배열로 보관합니다. 탐색 중에는 복사하지 않고 공유만 합니다.
+public final class BattleRoster {
+    public static final int TEAM_HADES = 0; // Team.HADES.index()
+    public static final int TEAM_ZEUS = 1;  // Team.ZEUS.index()
+    public static final int MAX_UNITS = 64;
+
+    // 권능 실행 방식 (SkillManager.executeSkill 의 분기와 동일)
+    public static final int SKILL_NONE = 0;
+    public static final int SKILL_AREA = 1;
+    public static final int SKILL_LINE = 2;
+    public static final int SKILL_HEAL = 3;
+    public static final int SKILL_JUDGMENT = 4;
+
+    public final int capacity;
+    public final int playerTeam;
+    private int size = 0;
+
+    // 진영별 유닛 인덱스 마스크 (비트 i = 유닛 i), 최대 64명까지 지원합니다.
+    public final long[] teamUnits = new long[2];
+
+    public final String[] names;
+    public final int[] team;
+    public final Unit.UnitClass[] unitClass;
+    public final int[] maxHp;
+    public final int[] atk;
+    public final int[] counterAtk;
+    public final int[] move;
+    public final int[] range;
+    public final int[] value;
+
+    // 자동 공격 시 적용되는 배율 (AI 영웅은 항상 고유 권능 계수로 공격합니다)
+    public final float[] attackMultiplier;
+
+    // 유닛이 사용할 권능 슬롯
+    public final String[] skillNames;
+    public final int[] skillKind;
+    public final float[] skillPower;
+    public final int[] skillRange;
+    public final SkillData.Shape[] skillShape;
+    public final boolean[] skillAoE;
+    public final int[] skillBonusDamage;
+    public final int[] skillShield;
+
+    public BattleRoster(int capacity, int playerTeam) {
+        if (capacity > MAX_UNITS) throw new IllegalArgumentException("BattleRoster supports at most 64 units: " + capacity);
+        this.capacity = capacity;
+        this.playerTeam = playerTeam;
+        names = new String[capacity];
+        team = new int[capacity];
+        unitClass = new Unit.UnitClass[capacity];
+        maxHp = new int[capacity];
+        atk = new int[capacity];
+        counterAtk = new int[capacity];
+        move = new int[capacity];
+        range = new int[capacity];
+        value = new int[capacity];
+        attackMultiplier = new float[capacity];
+        skillNames = new String[capacity];
+        skillKind = new int[capacity];
+        skillPower = new float[capacity];
+        skillRange = new int[capacity];
+        skillShape = new SkillData.Shape[capacity];
+        skillAoE = new boolean[capacity];
+        skillBonusDamage = new int[capacity];
+        skillShield = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * [메서드 설명] 유닛 한 명을 명단에 등록하고 인덱스를 반환합니다.
+     */
+    public int add(String name, int teamIdx, Unit.UnitClass cls, UnitData.Stat stat) {
+        int i = size++;
+        boolean isHero = cls == Unit.UnitClass.HERO;
+        boolean isPlayer = teamIdx == playerTeam;
+
+        names[i] = name;
+        team[i] = teamIdx;
+        teamUnits[teamIdx] |= 1L << i;
+        unitClass[i] = cls;
+        maxHp[i] = stat.hp();
+        atk[i] = stat.atk();
+        counterAtk[i] = stat.counterAtk();
+        move[i] = stat.move();
+        range[i] = stat.range();
+        value[i] = stat.value();
+
+        /* [설명] CombatManager.performAttack 규칙: 플레이어 진영이 아닌 영웅은 자동 공격에도 권능 계수가 붙습니다. */
+        attackMultiplier[i] = (isHero && !isPlayer) ? SkillData.get(stat.skillName()).power : 1.0f;
+
+        resolveSkill(i, pickSkillName(stat, isHero, isPlayer));
+        return i;
+    }
+
+    // AI는 대표 권능을, 플레이어는 영웅이 익힌 첫 번째 권능만 사용한다고 가정합니다.
+    private static String pickSkillName(UnitData.Stat stat, boolean isHero, boolean isPlayer) {
+        if (!isPlayer) return stat.skillName();
+        if (!isHero) return null;
+        for (int i = 0; i < stat.getLearnedSkills().size; i++) {
+            String name = stat.getLearnedSkills().get(i);
+            if (!name.equals(SkillData.BASIC_ATTACK)) return name;
+        }
+        return null;
+    }
+
+    private void resolveSkill(int i, String skillName) {
+        skillNames[i] = skillName;
+        if (skillName == null || skillName.equals(SkillData.BASIC_ATTACK)) {
+            skillKind[i] = SKILL_NONE;
+            skillShape[i] = SkillData.Shape.MANHATTAN;
+            return;
+        }
+
+        SkillData.Skill data = SkillData.get(skillName);
+        switch (data.effect) {
+            case JUDGMENT: skillKind[i] = SKILL_JUDGMENT; break;
+            case HEAL: skillKind[i] = SKILL_HEAL; break;
+            case LINE: skillKind[i] = SKILL_LINE; break;
+            default: skillKind[i] = SKILL_AREA; break;
+        }
+        skillPower[i] = data.power;
+        skillRange[i] = data.range;
+        skillShape[i] = data.shape;
+        skillAoE[i] = data.isAoE;
+        skillBonusDamage[i] = data.bonusDamage;
+        skillShield[i] = (int) (maxHp[i] * data.shieldRatio);
+    }
+
+    public static int teamIndex(String team) {
+        return Team.of(team).index();
+    }
+
+    public static String teamName(int teamIdx) {
+        return Team.of(teamIdx).name();
+    }
+
+    // 플레이어는 하단(y < 절반), AI는 상단 진영에서 시작합니다. (StageGenerator 배치 기준)
+    public boolean isHomeRow(int teamIdx, int y) {
+        int half = GameConfig.BOARD_HEIGHT / 2;
+        return (teamIdx == playerTeam) ? y < half : y >= half;
+    }
+}
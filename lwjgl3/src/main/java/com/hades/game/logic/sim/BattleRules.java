@@ -0,0 +1,266 @@
+package com.hades.game.logic.sim;
+
+import com.hades.game.entities.Unit;
+
+// Chess Olympus: HADES vs ZEUS - 전투 규칙 시뮬레이터
+// BoardManager / CombatManager / SkillManager 의 규칙을 그래픽과 로그 없이 BattleState 위에서 그대로 재현합니다.
+// 수(move)는 (유닛 인덱스 << 6) | 칸 번호 형태의 int 하나로 표현합니다.
+public final class BattleRules {
+    public static final int PASS = -1;
+
+    private BattleRules() { }
+
+    public static int encodeMove(int unit, int cell) {
+        return (unit << 6) | cell;
+    }
+
+    public static int moveUnit(int move) {
+        return move >>> 6;
+    }
+
+    public static int moveCell(int move) {
+        return move & 63;
+    }
+
+    // --- [이동 규칙: BoardManager.canMoveTo 와 동일] ---
+    public static boolean canMoveTo(BattleState s, int u, int tx, int ty) {
+        if (!Bitboard.inBounds(tx, ty)) return false;
+        return (movesOf(s, u) & Bitboard.bit(tx, ty)) != 0;
+    }
+
+    // 유닛이 이번 턴에 갈 수 있는 빈 칸 집합
+    public static long movesOf(BattleState s, int u) {
+        return MoveTables.moveMask(s.roster.unitClass[u], s.roster.move[u], s.cellOfUnit(u)) & ~s.occupied();
+    }
+
+    /**
+     * [메서드 설명] 현재 턴 진영의 모든 합법 수를 out 배열에 채우고 개수를 반환합니다.
+     * 비트보드의 켜진 비트만 순회하므로 객체를 생성하지 않습니다.
+     */
+    public static int generateMoves(BattleState s, int[] out) {
+        int count = 0;
+        long units = s.aliveUnits & s.roster.teamUnits[s.sideToMove];
+        while (units != 0) {
+            int u = Long.numberOfTrailingZeros(units);
+            units &= units - 1;
+            long targets = movesOf(s, u);
+            while (targets != 0) {
+                int cell = Long.numberOfTrailingZeros(targets);
+                targets &= targets - 1;
+                out[count++] = encodeMove(u, cell);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * [메서드 설명] 한 턴을 통째로 진행합니다: 이동 -> 권능 -> 자동 공격(반격 포함) -> 성녀 치유 -> 턴 교대
+     */
+    public static void applyMove(BattleState s, int move) {
+        int u = moveUnit(move);
+        int cell = moveCell(move);
+        int side = s.sideToMove;
+
+        s.moveUnit(u, BattleState.cellX(cell), BattleState.cellY(cell));
+
+        // AILogic.checkAndReserveSkill 과 같은 기준으로 권능을 장전한 뒤 이동 직후 발동합니다.
+        if (!s.skillUsed[u] && s.roster.skillKind[u] != BattleRoster.SKILL_NONE
+            && (s.skillReserved[u] || canSkillHitAny(s, u, s.x[u], s.y[u]))) {
+            castSkill(s, u);
+        }
+        s.setSkillReserved(u, false);
+
+        autoAttack(s, side);
+        autoHeal(s, side);
+        s.setSideToMove(1 - side);
+    }
+
+    // 움직일 수 있는 유닛이 없을 때: AI 턴은 아무 행동 없이 종료됩니다.
+    public static void passTurn(BattleState s) {
+        s.setSideToMove(1 - s.sideToMove);
+    }
+
+    // --- [권능 규칙: SkillManager.executeSkill 과 동일] ---
+    public static boolean canSkillHitAny(BattleState s, int u, int cx, int cy) {
+        return (skillHitMask(s, u, BattleState.cellOf(cx, cy)) & s.teamCells[1 - s.roster.team[u]]) != 0;
+    }
+
+    // AILogic.canHit: 사거리는 권능/유닛 사거리 중 큰 값을 사용합니다.
+    public static boolean canSkillHit(BattleState s, int u, int cx, int cy, int tx, int ty) {
+        return (skillHitMask(s, u, BattleState.cellOf(cx, cy)) & Bitboard.bit(tx, ty)) != 0;
+    }
+
+    public static long skillHitMask(BattleState s, int u, int cell) {
+        int effectiveRange = Math.max(s.roster.skillRange[u], s.roster.range[u]);
+        return MoveTables.skillHitMask(s.roster.skillShape[u], effectiveRange, cell);
+    }
+
+    private static void castSkill(BattleState s, int caster) {
+        BattleRoster r = s.roster;
+        if (r.skillShield[caster] > 0) s.setHp(caster, s.hp[caster] + r.skillShield[caster]);
+
+        int power = (int) (r.atk[caster] * r.skillPower[caster]);
+        int casterTeam = r.team[caster];
+        int n = s.size();
+
+        switch (r.skillKind[caster]) {
+            case BattleRoster.SKILL_JUDGMENT: {
+                int target = BattleState.NO_UNIT;
+                int minHp = Integer.MAX_VALUE;
+                for (int i = 0; i < n; i++) {
+                    if (s.hp[i] > 0 && r.team[i] != casterTeam && s.hp[i] < minHp) {
+                        minHp = s.hp[i];
+                        target = i;
+                    }
+                }
+                if (target != BattleState.NO_UNIT) applySkillDamage(s, caster, target, power);
+                break;
+            }
+            case BattleRoster.SKILL_HEAL:
+                for (int i = 0; i < n; i++) {
+                    if (s.hp[i] > 0 && r.team[i] == casterTeam && inSkillShape(s, caster, i)) {
+                        s.setHp(i, Math.min(r.maxHp[i] + 100, s.hp[i] + power));
+                        if (!r.skillAoE[caster]) break;
+                    }
+                }
+                break;
+            case BattleRoster.SKILL_LINE:
+                for (int i = 0; i < n; i++) {
+                    if (s.hp[i] > 0 && r.team[i] != casterTeam) {
+                        int dx = Math.abs(s.x[caster] - s.x[i]);
+                        int dy = Math.abs(s.y[caster] - s.y[i]);
+                        if ((dx == 0 || dy == 0) && dx + dy <= r.skillRange[caster]) {
+                            applySkillDamage(s, caster, i, power);
+                            if (!r.skillAoE[caster]) break;
+                        }
+                    }
+                }
+                break;
+            default:
+                for (int i = 0; i < n; i++) {
+                    if (s.hp[i] > 0 && r.team[i] != casterTeam && inSkillShape(s, caster, i)) {
+                        applySkillDamage(s, caster, i, power);
+                        if (!r.skillAoE[caster]) break;
+                    }
+                }
+                break;
+        }
+        s.setSkillUsed(caster, true);
+    }
+
+    // SkillManager.checkShape
+    private static boolean inSkillShape(BattleState s, int c, int t) {
+        int dx = Math.abs(s.x[c] - s.x[t]);
+        int dy = Math.abs(s.y[c] - s.y[t]);
+        int range = s.roster.skillRange[c];
+        switch (s.roster.skillShape[c]) {
+            case CROSS: return (dx == 0 || dy == 0) && dx + dy <= range;
+            case SQUARE: return dx <= range && dy <= range;
+            default: return dx + dy <= range;
+        }
+    }
+
+    private static void applySkillDamage(BattleState s, int caster, int target, int power) {
+        dealDamage(s, target, power + s.roster.skillBonusDamage[caster]);
+    }
+
+    // --- [자동 공격 규칙: CombatManager.processAutoAttack 과 동일] ---
+    public static void autoAttack(BattleState s, int side) {
+        long enemies = s.teamCells[1 - side];
+        long attackers = s.aliveUnits & s.roster.teamUnits[side];
+        while (attackers != 0) {
+            int a = Long.numberOfTrailingZeros(attackers);
+            attackers &= attackers - 1;
+            if (s.hp[a] <= 0) continue; // 앞선 반격으로 쓰러진 경우
+
+            long inRange = attackMaskOf(s, a) & enemies;
+            if (inRange == 0) continue; // 사거리 안에 적이 없으면 대상 탐색을 건너뜁니다.
+
+            if (s.roster.unitClass[a] == Unit.UnitClass.KNIGHT) {
+                // 기병은 주변 8칸의 모든 적을 (유닛 순서대로) 공격합니다.
+                int n = s.size();
+                for (int t = 0; t < n && s.hp[a] > 0; t++) {
+                    if (canAttack(s, a, t)) performAttack(s, a, t);
+                }
+            } else {
+                int target = findBestTarget(s, a);
+                if (target != BattleState.NO_UNIT) performAttack(s, a, target);
+            }
+            enemies = s.teamCells[1 - side];
+        }
+    }
+
+    public static long attackMaskOf(BattleState s, int a) {
+        return MoveTables.attackMask(s.roster.unitClass[a], s.roster.range[a], s.cellOfUnit(a));
+    }
+
+    // BoardManager.canAttack
+    public static boolean canAttack(BattleState s, int a, int t) {
+        if (s.hp[t] <= 0 || s.roster.team[a] == s.roster.team[t]) return false;
+        return (attackMaskOf(s, a) & Bitboard.bit(s.x[t], s.y[t])) != 0;
+    }
+
+    // BoardManager.findBestTargetInRange: 거리 -> 체력 -> 반격력 순으로 우선합니다.
+    public static int findBestTarget(BattleState s, int a) {
+        long inRange = attackMaskOf(s, a) & s.teamCells[1 - s.roster.team[a]];
+        int best = BattleState.NO_UNIT;
+        if (inRange == 0) return best;
+
+        int minDist = Integer.MAX_VALUE;
+        int minHp = Integer.MAX_VALUE;
+        int minCounter = Integer.MAX_VALUE;
+        int n = s.size();
+        for (int t = 0; t < n; t++) {
+            if (s.hp[t] <= 0 || (inRange & Bitboard.bit(s.x[t], s.y[t])) == 0) continue;
+            int dist = Math.abs(s.x[a] - s.x[t]) + Math.abs(s.y[a] - s.y[t]);
+            int hp = s.hp[t];
+            int counter = s.roster.counterAtk[t];
+            if (best == BattleState.NO_UNIT || dist < minDist
+                || (dist == minDist && (hp < minHp || (hp == minHp && counter < minCounter)))) {
+                best = t;
+                minDist = dist;
+                minHp = hp;
+                minCounter = counter;
+            }
+        }
+        return best;
+    }
+
+    // CombatManager.performAttack: 공격 후 살아남은 대상이 사거리 안이면 반격합니다.
+    private static void performAttack(BattleState s, int a, int t) {
+        BattleRoster r = s.roster;
+        int damage = (int) (r.atk[a] * r.attackMultiplier[a]);
+        if (dealDamage(s, t, damage)) return;
+
+        int dist = Math.abs(s.x[a] - s.x[t]) + Math.abs(s.y[a] - s.y[t]);
+        if (dist <= r.range[t]) {
+            dealDamage(s, a, r.counterAtk[t]);
+        }
+    }
+
+    // 피해를 적용하고 사망 여부를 반환합니다. 영웅이 쓰러지면 상대 진영의 승리가 확정됩니다.
+    private static boolean dealDamage(BattleState s, int t, int amount) {
+        s.setHp(t, s.hp[t] - amount);
+        if (s.hp[t] > 0) return false;
+
+        if (s.roster.unitClass[t] == Unit.UnitClass.HERO && s.winner == BattleState.NO_WINNER) {
+            s.setWinner(1 - s.roster.team[t]);
+        }
+        return true;
+    }
+
+    // --- [성녀 치유 규칙: CombatManager.processAutoHeal 과 동일] ---
+    public static void autoHeal(BattleState s, int side) {
+        int n = s.size();
+        for (int h = 0; h < n; h++) {
+            if (s.hp[h] <= 0 || s.roster.team[h] != side || s.roster.unitClass[h] != Unit.UnitClass.SAINT) continue;
+            for (int j = 0; j < n; j++) {
+                if (j == h || s.hp[j] <= 0 || s.roster.team[j] != side) continue;
+                int dist = Math.abs(s.x[h] - s.x[j]) + Math.abs(s.y[h] - s.y[j]);
+                if (dist == 1 && s.hp[j] < s.roster.maxHp[j]) {
+                    s.setHp(j, Math.min(s.roster.maxHp[j], s.hp[j] + 15));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.hades.game.logic.sim;
+
+import com.badlogic.gdx.utils.Array;
+import com.hades.game.constants.GameConfig;
+import com.hades.game.entities.Unit;
+import java.util.Arrays;
+
+// Chess Olympus: HADES vs ZEUS - 전투 진행 상태 (위치, 체력, 권능 사용 여부, 턴)
+// 탐색 엔진이 수를 두고 되돌릴 수 있도록 매 턴 바뀌는 값만 기본형 배열로 보관합니다.
+// 값 배열은 읽기용으로 공개하지만, 변경은 반드시 moveUnit / setHp 등 메서드를 거쳐야 비트보드와 해시가 맞게 유지됩니다.
+public final class BattleState {
+    public static final int NO_WINNER = -1;
+    public static final int NO_UNIT = -1;
+
+    public final BattleRoster roster;
+    public final int[] x;
+    public final int[] y;
+    public final int[] hp;
+    public final boolean[] skillUsed;
+    public final boolean[] skillReserved;
+
+    public int sideToMove;
+    public int winner = NO_WINNER;
+
+    // --- [비트보드] 살아있는 유닛이 차지한 칸 (진영별 / 병과별) 과 생존 유닛 인덱스 마스크 ---
+    public final long[] teamCells = new long[2];
+    public final long[] classCells = new long[Unit.UnitClass.values().length];
+    public long aliveUnits;
+
+    // Zobrist 해시: 아래 변경 메서드를 거칠 때마다 증분 갱신됩니다.
+    public long hash;
+
+    // 위협 지도: enableThreatMap() 을 호출한 상태만 유지합니다. (탐색 스택 상태는 null 이라 비용이 들지 않습니다)
+    public ThreatMap threats;
+
+    // 변경 기록: 연결되어 있으면 아래 변경 메서드가 바뀌기 전 값을 쌓아 MoveJournal.undo 로 되돌릴 수 있습니다.
+    public MoveJournal journal;
+
+    public BattleState(BattleRoster roster) {
+        this.roster = roster;
+        int n = roster.capacity;
+        x = new int[n];
+        y = new int[n];
+        hp = new int[n];
+        skillUsed = new boolean[n];
+        skillReserved = new boolean[n];
+    }
+
+    /**
+     * [메서드 설명] 같은 명단을 쓰는 다른 상태의 값을 그대로 복사합니다. (탐색용 copy-make)
+     */
+    public void copyFrom(BattleState other) {
+        int n = roster.size();
+        System.arraycopy(other.x, 0, x, 0, n);
+        System.arraycopy(other.y, 0, y, 0, n);
+        System.arraycopy(other.hp, 0, hp, 0, n);
+        System.arraycopy(other.skillUsed, 0, skillUsed, 0, n);
+        System.arraycopy(other.skillReserved, 0, skillReserved, 0, n);
+        sideToMove = other.sideToMove;
+        winner = other.winner;
+        teamCells[0] = other.teamCells[0];
+        teamCells[1] = other.teamCells[1];
+        System.arraycopy(other.classCells, 0, classCells, 0, classCells.length);
+        aliveUnits = other.aliveUnits;
+        hash = other.hash;
+        if (threats != null) {
+            if (other.threats != null) threats.copyFrom(other.threats);
+            else threats.rebuild(this);
+        }
+    }
+
+    /**
+     * [메서드 설명] 위협 지도를 만들고 이후 이동/사망 때마다 증분 갱신합니다.
+     */
+    public ThreatMap enableThreatMap() {
+        if (threats == null) {
+            threats = new ThreatMap();
+            threats.rebuild(this);
+        }
+        return threats;
+    }
+
+    /**
+     * [메서드 설명] 좌표/체력 배열을 기준으로 비트보드와 해시를 처음부터 다시 계산합니다. (상태를 직접 채운 뒤 1회 호출)
+     */
+    public void rebuildDerivedData() {
+        teamCells[0] = 0;
+        teamCells[1] = 0;
+        Arrays.fill(classCells, 0);
+        aliveUnits = 0;
+        hash = Zobrist.side(sideToMove);
+        int n = roster.size();
+        for (int i = 0; i < n; i++) {
+            if (hp[i] <= 0) continue;
+            long b = Bitboard.bit(x[i], y[i]);
+            teamCells[roster.team[i]] |= b;
+            classCells[roster.unitClass[i].ordinal()] |= b;
+            aliveUnits |= 1L << i;
+            hash ^= unitKey(i);
+        }
+        if (threats != null) threats.rebuild(this);
+    }
+
+    // 유닛 하나가 해시에 기여하는 값 (칸 기준 키이므로 이동/체력/권능 변경 전후로 XOR 하면 됩니다)
+    private long unitKey(int u) {
+        if (hp[u] <= 0) return 0L;
+        int cell = cellOfUnit(u);
+        long key = Zobrist.piece(roster.team[u], roster.unitClass[u].ordinal(), cell) ^ Zobrist.hp(cell, hp[u]);
+        if (skillUsed[u]) key ^= Zobrist.skillUsed(cell);
+        if (skillReserved[u]) key ^= Zobrist.skillReserved(cell);
+        return key;
+    }
+
+    // --- [상태 변경 메서드: 비트보드와 해시를 함께 갱신합니다] ---
+    public void moveUnit(int u, int nx, int ny) {
+        if (journal != null) journal.record(MoveJournal.POSITION, u, cellOfUnit(u));
+        hash ^= unitKey(u);
+        long from = Bitboard.bit(x[u], y[u]);
+        long to = Bitboard.bit(nx, ny);
+        int t = roster.team[u];
+        int c = roster.unitClass[u].ordinal();
+        teamCells[t] = (teamCells[t] & ~from) | to;
+        classCells[c] = (classCells[c] & ~from) | to;
+        if (threats != null && hp[u] > 0) threats.move(roster, u, cellOfUnit(u), cellOf(nx, ny));
+        x[u] = nx;
+        y[u] = ny;
+        hash ^= unitKey(u);
+    }
+
+    // 체력을 바꾸고, 0 이하가 되면 전장에서 제거합니다. (되돌리기로 0 에서 다시 올라가면 전장에 복귀합니다)
+    public void setHp(int u, int value) {
+        if (journal != null) journal.record(MoveJournal.HP, u, hp[u]);
+        hash ^= unitKey(u);
+        if (value <= 0) {
+            hp[u] = 0;
+            removeUnit(u);
+        } else {
+            hp[u] = value;
+            restoreUnit(u);
+        }
+        hash ^= unitKey(u);
+    }
+
+    private void removeUnit(int u) {
+        if ((aliveUnits & (1L << u)) == 0) return;
+        if (threats != null) threats.remove(roster, u, cellOfUnit(u));
+        long b = Bitboard.bit(x[u], y[u]);
+        teamCells[roster.team[u]] &= ~b;
+        classCells[roster.unitClass[u].ordinal()] &= ~b;
+        aliveUnits &= ~(1L << u);
+    }
+
+    private void restoreUnit(int u) {
+        if ((aliveUnits & (1L << u)) != 0) return;
+        long b = Bitboard.bit(x[u], y[u]);
+        teamCells[roster.team[u]] |= b;
+        classCells[roster.unitClass[u].ordinal()] |= b;
+        aliveUnits |= 1L << u;
+        if (threats != null) threats.add(roster, u, cellOfUnit(u));
+    }
+
+    public void setSkillUsed(int u, boolean used) {
+        if (journal != null) journal.record(MoveJournal.SKILL_USED, u, skillUsed[u] ? 1 : 0);
+        hash ^= unitKey(u);
+        skillUsed[u] = used;
+        hash ^= unitKey(u);
+    }
+
+    public void setSkillReserved(int u, boolean reserved) {
+        if (skillReserved[u] == reserved) return;
+        if (journal != null) journal.record(MoveJournal.SKILL_RESERVED, u, skillReserved[u] ? 1 : 0);
+        hash ^= unitKey(u);
+        skillReserved[u] = reserved;
+        hash ^= unitKey(u);
+    }
+
+    public void setSideToMove(int side) {
+        if (journal != null) journal.record(MoveJournal.SIDE, 0, sideToMove);
+        hash ^= Zobrist.side(sideToMove) ^ Zobrist.side(side);
+        sideToMove = side;
+    }
+
+    public void setWinner(int team) {
+        if (journal != null) journal.record(MoveJournal.WINNER, 0, winner + 1);
+        winner = team;
+    }
+
+    public long occupied() {
+        return teamCells[0] | teamCells[1];
+    }
+
+    public int cellOfUnit(int u) {
+        return y[u] * GameConfig.BOARD_WIDTH + x[u];
+    }
+
+    public int size() {
+        return roster.size();
+    }
+
+    public boolean isAlive(int u) {
+        return hp[u] > 0;
+    }
+
+    public boolean isGameOver() {
+        return winner != NO_WINNER;
+    }
+
+    public static int cellOf(int x, int y) {
+        return y * GameConfig.BOARD_WIDTH + x;
+    }
+
+    public static int cellX(int cell) {
+        return cell % GameConfig.BOARD_WIDTH;
+    }
+
+    public static int cellY(int cell) {
+        return cell / GameConfig.BOARD_WIDTH;
+    }
+
+    public int unitAt(int cx, int cy) {
+        if ((occupied() & Bitboard.bit(cx, cy)) == 0) return NO_UNIT;
+        int n = roster.size();
+        for (int i = 0; i < n; i++) {
+            if (hp[i] > 0 && x[i] == cx && y[i] == cy) return i;
+        }
+        return NO_UNIT;
+    }
+
+    /**
+     * [메서드 설명] 화면의 유닛 목록을 같은 순서의 전투 상태로 변환합니다.
+     * 배열 인덱스가 곧 유닛 인덱스이므로 결과 수를 다시 Unit으로 되돌릴 때 units.get(i)를 사용합니다.
+     */
+    public static BattleState fromUnits(Array<Unit> units, String playerTeam, String sideToMove) {
+        BattleRoster roster = new BattleRoster(units.size, BattleRoster.teamIndex(playerTeam));
+        for (int i = 0; i < units.size; i++) {
+            Unit u = units.get(i);
+            roster.add(u.name, BattleRoster.teamIndex(u.team), u.unitClass, u.stat);
+        }
+
+        BattleState state = new BattleState(roster);
+        for (int i = 0; i < units.size; i++) {
+            Unit u = units.get(i);
+            state.x[i] = u.gridX();
+            state.y[i] = u.gridY();
+            state.hp[i] = u.isAlive() ? u.currentHp() : 0;
+            state.skillUsed[i] = roster.skillKind[i] != BattleRoster.SKILL_NONE && !u.stat.isSkillReady(roster.skillNames[i]);
+            state.skillReserved[i] = u.stat.getReservedSkill() != null;
+        }
+        state.sideToMove = BattleRoster.teamIndex(sideToMove);
+        state.rebuildDerivedData();
+        return state;
+    }
+}
@@ -0,0 +1,115 @@
+package com.hades.game.logic.sim;
+
+import com.hades.game.constants.GameConfig;
+
+// Chess Olympus: HADES vs ZEUS - 7x8 전장 비트보드 유틸리티
+// 56칸 전장을 long 하나에 담습니다. 칸 번호는 y * BOARD_WIDTH + x 이며, 해당 비트가 1이면 그 칸이 집합에 속합니다.
+// 이동/공격 범위를 시프트와 마스크로 계산합니다. 실제 판정은 이 함수들로 미리 만든 MoveTables 조회표를 사용합니다.
+public final class Bitboard {
+    public static final int W = GameConfig.BOARD_WIDTH;
+    public static final int H = GameConfig.BOARD_HEIGHT;
+    public static final int CELLS = W * H;
+
+    public static final long BOARD_MASK = (CELLS == 64) ? -1L : (1L << CELLS) - 1;
+    public static final long FILE_FIRST; // x == 0 인 열
+    public static final long FILE_LAST;  // x == W - 1 인 열
+
+    static {
+        long first = 0, last = 0;
+        for (int y = 0; y < H; y++) {
+            first |= 1L << (y * W);
+            last |= 1L << (y * W + W - 1);
+        }
+        FILE_FIRST = first;
+        FILE_LAST = last;
+    }
+
+    private Bitboard() { }
+
+    public static long bit(int cell) {
+        return 1L << cell;
+    }
+
+    public static long bit(int x, int y) {
+        return 1L << (y * W + x);
+    }
+
+    public static boolean inBounds(int x, int y) {
+        return x >= 0 && x < W && y >= 0 && y < H;
+    }
+
+    // --- [한 칸 시프트: 보드 가장자리를 넘어가는 비트는 잘라냅니다] ---
+    public static long east(long b) {
+        return (b << 1) & ~FILE_FIRST & BOARD_MASK;
+    }
+
+    public static long west(long b) {
+        return (b >>> 1) & ~FILE_LAST;
+    }
+
+    public static long north(long b) {
+        return (b << W) & BOARD_MASK;
+    }
+
+    public static long south(long b) {
+        return b >>> W;
+    }
+
+    // 상하좌우 4방향으로 한 칸 확장합니다.
+    public static long dilate(long b) {
+        return b | east(b) | west(b) | north(b) | south(b);
+    }
+
+    /**
+     * [메서드 설명] 맨해튼 거리 1 ~ radius 인 칸들의 집합 (자기 칸 제외)
+     */
+    public static long manhattan(int cell, int radius) {
+        long origin = bit(cell);
+        long b = origin;
+        for (int i = 0; i < radius; i++) b = dilate(b);
+        return b & ~origin;
+    }
+
+    /**
+     * [메서드 설명] 상하좌우 직선으로 1 ~ length 칸 떨어진 칸들의 집합 (막힘 무시)
+     */
+    public static long lines(int cell, int length) {
+        long e = bit(cell), w = e, n = e, s = e;
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            e = east(e);
+            w = west(w);
+            n = north(n);
+            s = south(s);
+            result |= e | w | n | s;
+        }
+        return result;
+    }
+
+    // 주변 8칸 (대각선 포함)
+    public static long ring(int cell) {
+        long o = bit(cell);
+        long row = o | east(o) | west(o);
+        return (row | north(row) | south(row)) & ~o;
+    }
+
+    // 체스 나이트와 같은 L자 8방향
+    public static long knightJumps(int cell) {
+        long o = bit(cell);
+        long e1 = east(o), w1 = west(o);
+        long e2 = east(e1), w2 = west(w1);
+        long oneCol = e1 | w1;
+        long twoCol = e2 | w2;
+        return north(north(oneCol)) | south(south(oneCol)) | north(twoCol) | south(twoCol);
+    }
+
+    // 한 변이 2 * radius + 1 인 정사각형 (자기 칸 제외)
+    public static long square(int cell, int radius) {
+        long o = bit(cell);
+        long row = o;
+        for (int i = 0; i < radius; i++) row |= east(row) | west(row);
+        long b = row;
+        for (int i = 0; i < radius; i++) b |= north(b) | south(b);
+        return b & ~o;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hades.game.logic.sim;
+
+// Chess Olympus: HADES vs ZEUS - 수 되돌리기(make/unmake)용 변경 기록
+// BattleState 에 연결해 두면 moveUnit / setHp / 권능 플래그 / 턴 / 승자 변경마다 "바뀌기 전 값"을 int 하나로 쌓습니다.
+// 한 수가 일으킨 모든 변화(이동, 권능, 자동 공격과 반격 피해, 사망, 치유)를 기록하므로,
+// undo(mark) 는 그 수가 바꾼 항목 수만큼만 되감아 상태 전체를 복사하지 않고도 원래 국면으로 돌아갑니다.
+public final class MoveJournal {
+    // 항목 형식: [이전 값 (23비트)][유닛 (6비트)][종류 (3비트)]
+    static final int POSITION = 0;
+    static final int HP = 1;
+    static final int SKILL_USED = 2;
+    static final int SKILL_RESERVED = 3;
+    static final int SIDE = 4;
+    static final int WINNER = 5;
+
+    private static final int KIND_BITS = 3;
+    private static final int UNIT_BITS = 6;
+    private static final int VALUE_SHIFT = KIND_BITS + UNIT_BITS;
+
+    private int[] entries;
+    private int size;
+
+    public MoveJournal() {
+        this(256);
+    }
+
+    public MoveJournal(int initialCapacity) {
+        entries = new int[initialCapacity];
+    }
+
+    // 현재 기록 위치. 수를 두기 전에 받아 두었다가 undo 에 넘깁니다.
+    public int mark() {
+        return size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    void record(int kind, int unit, int oldValue) {
+        if (size == entries.length) {
+            int[] grown = new int[entries.length * 2];
+            System.arraycopy(entries, 0, grown, 0, size);
+            entries = grown;
+        }
+        entries[size++] = (oldValue << VALUE_SHIFT) | (unit << KIND_BITS) | kind;
+    }
+
+    /**
+     * [메서드 설명] mark 이후에 쌓인 변경을 역순으로 되돌립니다. 비트보드/해시/위협 지도도 변경 메서드를 통해 함께 복원됩니다.
+     */
+    public void undo(BattleState s, int mark) {
+        MoveJournal attached = s.journal;
+        s.journal = null; // 되돌리는 동작 자체는 기록하지 않습니다.
+        while (size > mark) {
+            int e = entries[--size];
+            int kind = e & ((1 << KIND_BITS) - 1);
+            int unit = (e >>> KIND_BITS) & ((1 << UNIT_BITS) - 1);
+            int value = e >> VALUE_SHIFT;
+            switch (kind) {
+                case POSITION: s.moveUnit(unit, BattleState.cellX(value), BattleState.cellY(value)); break;
+                case HP: s.setHp(unit, value); break;
+                case SKILL_USED: s.setSkillUsed(unit, value != 0); break;
+                case SKILL_RESERVED: s.setSkillReserved(unit, value != 0); break;
+                case SIDE: s.setSideToMove(value); break;
+                case WINNER: s.setWinner(value - 1); break;
+                default: throw new IllegalStateException("알 수 없는 기록 종류: " + kind);
+            }
+        }
+        s.journal = attached;
+    }
+}
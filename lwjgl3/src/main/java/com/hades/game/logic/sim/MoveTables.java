@@ -0,0 +1,85 @@
+package com.hades.game.logic.sim;
+
+import com.hades.game.constants.SkillData;
+import com.hades.game.entities.Unit;
+
+// Chess Olympus: HADES vs ZEUS - 칸별 이동/공격 범위 조회표
+// 클래스 로딩 시 56칸 x 거리별 범위를 Bitboard 로 한 번만 계산해 두고, 이후 판정은 배열 조회 한 번으로 끝냅니다.
+// (기병 L자, 전차 3칸 직선, 맨해튼 거리, 십자 직선, 주변 8칸, 정사각형)
+public final class MoveTables {
+    // 이 거리 이상이면 어느 칸에서든 보드 전체를 덮으므로 표를 더 만들 필요가 없습니다.
+    public static final int MAX_RADIUS = Bitboard.W + Bitboard.H - 2;
+    public static final int MAX_LINE = Math.max(Bitboard.W, Bitboard.H) - 1;
+    private static final int CHARIOT_LINE = 3;
+
+    private static final long[] KNIGHT = new long[Bitboard.CELLS];
+    private static final long[] RING = new long[Bitboard.CELLS];
+    private static final long[][] MANHATTAN = new long[MAX_RADIUS + 1][Bitboard.CELLS];
+    private static final long[][] LINES = new long[MAX_LINE + 1][Bitboard.CELLS];
+    private static final long[][] SQUARE = new long[MAX_LINE + 1][Bitboard.CELLS];
+
+    static {
+        for (int cell = 0; cell < Bitboard.CELLS; cell++) {
+            KNIGHT[cell] = Bitboard.knightJumps(cell);
+            RING[cell] = Bitboard.ring(cell);
+            for (int r = 0; r <= MAX_RADIUS; r++) MANHATTAN[r][cell] = Bitboard.manhattan(cell, r);
+            for (int r = 0; r <= MAX_LINE; r++) {
+                LINES[r][cell] = Bitboard.lines(cell, r);
+                SQUARE[r][cell] = Bitboard.square(cell, r);
+            }
+        }
+    }
+
+    private MoveTables() { }
+
+    public static long manhattan(int cell, int radius) {
+        return MANHATTAN[clamp(radius, MAX_RADIUS)][cell];
+    }
+
+    public static long lines(int cell, int length) {
+        return LINES[clamp(length, MAX_LINE)][cell];
+    }
+
+    public static long square(int cell, int radius) {
+        return SQUARE[clamp(radius, MAX_LINE)][cell];
+    }
+
+    public static long knight(int cell) {
+        return KNIGHT[cell];
+    }
+
+    public static long ring(int cell) {
+        return RING[cell];
+    }
+
+    /**
+     * [메서드 설명] BoardManager.canMoveTo 의 병과별 이동 규칙 (점유 여부는 호출부에서 제외)
+     * 기병은 L자, 전차는 3칸 이내 직선, 그 외 병과는 이동력 이내 맨해튼 거리입니다.
+     */
+    public static long moveMask(Unit.UnitClass cls, int move, int cell) {
+        if (cls == Unit.UnitClass.KNIGHT) return KNIGHT[cell];
+        if (cls == Unit.UnitClass.CHARIOT) return LINES[CHARIOT_LINE][cell];
+        return manhattan(cell, move);
+    }
+
+    /**
+     * [메서드 설명] BoardManager.canAttack 의 자동 공격 범위: 기병은 주변 8칸, 그 외는 사거리 이내 십자 직선
+     */
+    public static long attackMask(Unit.UnitClass cls, int range, int cell) {
+        if (cls == Unit.UnitClass.KNIGHT) return RING[cell];
+        return lines(cell, range);
+    }
+
+    /**
+     * [메서드 설명] AILogic.canHit 의 권능 적중 범위 (사거리는 호출부에서 권능/유닛 사거리 중 큰 값으로 전달)
+     * 십자/직선형은 같은 행·열만, 정사각형·맨해튼·전역형은 맨해튼 거리 이내입니다.
+     */
+    public static long skillHitMask(SkillData.Shape shape, int range, int cell) {
+        if (shape == SkillData.Shape.CROSS || shape == SkillData.Shape.LINE) return lines(cell, range);
+        return manhattan(cell, range);
+    }
+
+    private static int clamp(int r, int max) {
+        return r <= 0 ? 0 : Math.min(r, max);
+    }
+}
@@ -0,0 +1,210 @@
+package com.hades.game.logic.sim;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.hades.game.constants.UnitData;
+import com.hades.game.entities.Unit;
+import com.hades.game.logic.StageGenerator;
+
+// Chess Olympus: HADES vs ZEUS - perft (수 생성 검증 / 속도 측정 도구, 그래픽 없이 실행)
+// 실행: ./gradlew :lwjgl3:perft --args="--depth 5"   (특정 스테이지의 루트 수별 개수: --args="--divide 3 --depth 3")
+// 스테이지 배치에서 깊이 N 까지 가능한 모든 수순을 따라가 말단 국면 수를 셉니다. 수는 BattleRules.applyMove 로 두고 MoveJournal 로 되돌립니다.
+// 검증 모드에서는 매 국면마다 비트보드 수 생성 결과를 원래 BoardManager 의 좌표 규칙(기병 L자, 전차 직선 3칸, 점유 칸 제외)으로 만든 목록과 비교하고,
+// 되돌린 뒤의 해시가 두기 전과 같은지도 확인합니다. 아래 FIXTURES 는 규칙이 바뀌지 않는 한 고정인 기준값입니다.
+public class Perft {
+    private static final int MAX_MOVES = 1024;
+    private static final int MAX_DEPTH = 16;
+
+    // { 스테이지, 깊이, 기대 말단 수 } - 하데스 첫 영웅(솜주먹), 시드 고정 배치 기준
+    private static final long[][] FIXTURES = {
+        {1, 1, 15}, {1, 2, 150}, {1, 3, 3045}, {1, 4, 47993},
+        {2, 1, 15}, {2, 2, 195}, {2, 3, 3885}, {2, 4, 74572},
+        {3, 1, 13}, {3, 2, 143}, {3, 3, 2683}, {3, 4, 43102},
+        {4, 1, 15}, {4, 2, 195}, {4, 3, 3884}, {4, 4, 74272},
+        {5, 1, 14}, {5, 2, 210}, {5, 3, 4167}, {5, 4, 82613},
+        {6, 1, 14}, {6, 2, 182}, {6, 3, 3610}, {6, 4, 69316},
+        {7, 1, 14}, {7, 2, 182}, {7, 3, 3607}, {7, 4, 68721},
+    };
+
+    private static final int STAGE_COUNT = UnitData.STATS_ZEUS.length;
+    private static final int DEFAULT_BENCH_DEPTH = 5;
+    private static final long SEED = 20260101L; // 일반병 배치 순서를 섞는 난수의 시드 (기준값이 이 시드에 묶여 있습니다)
+
+    private final MoveJournal journal = new MoveJournal(1024);
+    private final int[][] moves = new int[MAX_DEPTH][MAX_MOVES];
+    private final int[] referenceMoves = new int[MAX_MOVES];
+    private BattleState board;
+    private boolean verify;
+    private long mismatches;
+
+    public Perft(boolean verify) {
+        this.verify = verify;
+    }
+
+    /**
+     * [메서드 설명] root 에서 depth 수 뒤의 말단 국면 수를 셉니다. root 자체는 바뀌지 않습니다.
+     * 둘 수 있는 수가 없으면 PASS 한 수로 세고, 승패가 난 국면은 그 아래로 내려가지 않습니다(말단 0개).
+     */
+    public long count(BattleState root, int depth) {
+        if (depth > MAX_DEPTH) throw new IllegalArgumentException("perft 깊이는 " + MAX_DEPTH + " 이하여야 합니다: " + depth);
+        prepareBoard(root);
+        return perft(depth, 0);
+    }
+
+    /**
+     * [메서드 설명] 루트의 수마다 그 아래 말단 수를 출력합니다. (기준값과 어긋날 때 어느 수에서 갈라졌는지 찾는 용도)
+     */
+    public long divide(BattleState root, int depth) {
+        prepareBoard(root);
+        int count = BattleRules.generateMoves(board, moves[0]);
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            int m = moves[0][i];
+            int mark = journal.mark();
+            BattleRules.applyMove(board, m);
+            long nodes = depth > 1 ? perft(depth - 1, 1) : 1;
+            journal.undo(board, mark);
+            int u = BattleRules.moveUnit(m);
+            int cell = BattleRules.moveCell(m);
+            System.out.printf("%s (%d,%d)->(%d,%d): %d%n", board.roster.names[u], board.x[u], board.y[u],
+                BattleState.cellX(cell), BattleState.cellY(cell), nodes);
+            total += nodes;
+        }
+        return total;
+    }
+
+    public long getMismatches() {
+        return mismatches;
+    }
+
+    private long perft(int depth, int ply) {
+        if (depth == 0) return 1;
+        if (board.isGameOver()) return 0;
+
+        int[] list = moves[ply];
+        int count = BattleRules.generateMoves(board, list);
+        if (verify) checkMoves(list, count);
+
+        if (count == 0) {
+            int mark = journal.mark();
+            BattleRules.passTurn(board);
+            long nodes = perft(depth - 1, ply + 1);
+            journal.undo(board, mark);
+            return nodes;
+        }
+        // 마지막 한 수는 두지 않고 개수만 더합니다. (검증 모드에서는 되돌리기 확인을 위해 끝까지 둡니다)
+        if (depth == 1 && !verify) return count;
+
+        long nodes = 0;
+        long hash = board.hash;
+        for (int i = 0; i < count; i++) {
+            int mark = journal.mark();
+            BattleRules.applyMove(board, list[i]);
+            nodes += perft(depth - 1, ply + 1);
+            journal.undo(board, mark);
+            if (verify && board.hash != hash) {
+                mismatches++;
+                System.out.println("[Perft] 되돌린 뒤 해시 불일치: move=" + list[i]);
+            }
+        }
+        return nodes;
+    }
+
+    // 비트보드 수 생성 결과를 좌표 규칙으로 만든 목록과 순서까지 비교합니다. (둘 다 유닛 번호 -> 칸 번호 오름차순)
+    private void checkMoves(int[] list, int count) {
+        int expected = generateReferenceMoves(board, referenceMoves);
+        boolean same = expected == count;
+        for (int i = 0; same && i < count; i++) same = list[i] == referenceMoves[i];
+        if (!same) {
+            mismatches++;
+            System.out.println("[Perft] 수 생성 불일치: bitboard=" + count + " reference=" + expected);
+        }
+    }
+
+    /**
+     * [메서드 설명] 비트보드 없이 칸을 하나씩 검사하는 기준 수 생성기 (원래 BoardManager.canMoveTo 의 규칙 그대로)
+     */
+    static int generateReferenceMoves(BattleState s, int[] out) {
+        int count = 0;
+        int n = s.size();
+        for (int u = 0; u < n; u++) {
+            if (s.hp[u] <= 0 || s.roster.team[u] != s.sideToMove) continue;
+            for (int cell = 0; cell < Bitboard.CELLS; cell++) {
+                int tx = BattleState.cellX(cell);
+                int ty = BattleState.cellY(cell);
+                if (s.unitAt(tx, ty) != BattleState.NO_UNIT) continue;
+                int dx = Math.abs(s.x[u] - tx);
+                int dy = Math.abs(s.y[u] - ty);
+                boolean ok;
+                Unit.UnitClass cls = s.roster.unitClass[u];
+                if (cls == Unit.UnitClass.KNIGHT) ok = (dx == 2 && dy == 1) || (dx == 1 && dy == 2);
+                else if (cls == Unit.UnitClass.CHARIOT) ok = (dx == 0 || dy == 0) && dx + dy <= 3;
+                else ok = dx + dy <= s.roster.move[u];
+                if (ok) out[count++] = BattleRules.encodeMove(u, cell);
+            }
+        }
+        return count;
+    }
+
+    private void prepareBoard(BattleState root) {
+        if (board == null || board.roster != root.roster) {
+            board = new BattleState(root.roster);
+            board.journal = journal;
+        }
+        board.copyFrom(root);
+        journal.clear();
+    }
+
+    // 스테이지 배치는 일반병 자리를 무작위로 섞으므로, 스테이지마다 시드를 고정해 항상 같은 국면에서 셉니다.
+    private static BattleState stageRoot(int stage) {
+        MathUtils.random.setSeed(SEED + stage);
+        return StageGenerator.createState(stage, "HADES", UnitData.NAMES_HADES[0], new UnitData.Stat(UnitData.STATS_HADES[0]));
+    }
+
+    public static void main(String[] args) {
+        int depth = DEFAULT_BENCH_DEPTH;
+        int divideStage = 0;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--depth": depth = Integer.parseInt(value); break;
+                case "--divide": divideStage = Integer.parseInt(value); break;
+                default: throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+
+        if (divideStage > 0) {
+            long total = new Perft(false).divide(stageRoot(divideStage), depth);
+            System.out.println("total: " + total);
+            return;
+        }
+
+        // 1. 기준값 검증 (비트보드 수 생성 == 좌표 규칙 수 생성, 되돌리기 후 해시 복원, 말단 수 == 기준값)
+        Perft checker = new Perft(true);
+        int failed = 0;
+        for (long[] f : FIXTURES) {
+            long nodes = checker.count(stageRoot((int) f[0]), (int) f[1]);
+            boolean ok = nodes == f[2];
+            if (!ok) failed++;
+            System.out.printf("stage %d depth %d: %d (expected %d) %s%n", f[0], f[1], nodes, f[2], ok ? "OK" : "FAIL");
+        }
+        System.out.println("fixtures failed=" + failed + " mismatches=" + checker.getMismatches());
+
+        // 2. 속도 측정 (검증 없이, 마지막 수는 개수만 셈). JIT 워밍업으로 한 번 먼저 돌립니다.
+        Perft bench = new Perft(false);
+        for (int stage = 1; stage <= STAGE_COUNT; stage++) bench.count(stageRoot(stage), Math.max(1, depth - 1));
+        System.out.println("stage | depth | nodes | ms | nodes/sec");
+        long totalNodes = 0;
+        long totalNanos = 0;
+        for (int stage = 1; stage <= STAGE_COUNT; stage++) {
+            BattleState root = stageRoot(stage);
+            long start = System.nanoTime();
+            long nodes = bench.count(root, depth);
+            long nanos = System.nanoTime() - start;
+            totalNodes += nodes;
+            totalNanos += nanos;
+            System.out.printf("%5d | %5d | %12d | %8.1f | %12.0f%n", stage, depth, nodes, nanos / 1_000_000.0, nodes * 1_000_000_000.0 / nanos);
+        }
+        System.out.printf("total | %5d | %12d | %8.1f | %12.0f%n", depth, totalNodes, totalNanos / 1_000_000.0, totalNodes * 1_000_000_000.0 / totalNanos);
+        if (failed > 0 || checker.getMismatches() > 0) System.exit(1);
+    }
+}
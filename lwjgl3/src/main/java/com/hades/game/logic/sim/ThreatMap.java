@@ -0,0 +1,93 @@
+package com.hades.game.logic.sim;
+
+import java.util.Arrays;
+
+// Chess Olympus: HADES vs ZEUS - 진영별 위협 지도 (다음 턴에 닿을 수 있는 칸과 그 칸에 들어올 수 있는 공격력 합)
+// 위협 기준은 AILogic.isUnitUnderThreat 와 같습니다: 유닛 위치에서 맨해튼 거리 (이동력 + 사거리) 이내 칸 (자기 칸 포함)
+// 유닛이 움직이거나 쓰러질 때 그 유닛의 기여분만 빼고 더하므로, 평가 쪽은 칸 값을 읽기만 하면 됩니다.
+public final class ThreatMap {
+    private final int[][] count = new int[2][Bitboard.CELLS];  // 칸을 위협하는 유닛 수
+    private final int[][] attack = new int[2][Bitboard.CELLS]; // 칸을 위협하는 유닛들의 공격력 합
+    private final long[] threatened = new long[2];             // count > 0 인 칸 집합
+
+    /**
+     * [메서드 설명] 상태의 생존 유닛 전부로 지도를 처음부터 다시 만듭니다.
+     */
+    public void rebuild(BattleState s) {
+        for (int t = 0; t < 2; t++) {
+            Arrays.fill(count[t], 0);
+            Arrays.fill(attack[t], 0);
+            threatened[t] = 0;
+        }
+        int n = s.size();
+        for (int u = 0; u < n; u++) {
+            if (s.hp[u] > 0) add(s.roster, u, s.cellOfUnit(u));
+        }
+    }
+
+    public void copyFrom(ThreatMap other) {
+        for (int t = 0; t < 2; t++) {
+            System.arraycopy(other.count[t], 0, count[t], 0, Bitboard.CELLS);
+            System.arraycopy(other.attack[t], 0, attack[t], 0, Bitboard.CELLS);
+            threatened[t] = other.threatened[t];
+        }
+    }
+
+    // --- [증분 갱신: BattleState 의 변경 메서드가 호출합니다] ---
+    public void add(BattleRoster r, int u, int cell) {
+        int t = r.team[u];
+        int atk = r.atk[u];
+        int[] cnt = count[t];
+        int[] sum = attack[t];
+        long mask = reachMask(r, u, cell);
+        threatened[t] |= mask;
+        while (mask != 0) {
+            int c = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            cnt[c]++;
+            sum[c] += atk;
+        }
+    }
+
+    public void remove(BattleRoster r, int u, int cell) {
+        int t = r.team[u];
+        int atk = r.atk[u];
+        int[] cnt = count[t];
+        int[] sum = attack[t];
+        long mask = reachMask(r, u, cell);
+        while (mask != 0) {
+            int c = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            sum[c] -= atk;
+            if (--cnt[c] == 0) threatened[t] &= ~Bitboard.bit(c);
+        }
+    }
+
+    public void move(BattleRoster r, int u, int fromCell, int toCell) {
+        if (fromCell == toCell) return;
+        remove(r, u, fromCell);
+        add(r, u, toCell);
+    }
+
+    // 유닛 하나가 위협하는 칸 집합
+    public static long reachMask(BattleRoster r, int u, int cell) {
+        return MoveTables.manhattan(cell, r.move[u] + r.range[u]) | Bitboard.bit(cell);
+    }
+
+    // --- [조회] ---
+    public int count(int team, int cell) {
+        return count[team][cell];
+    }
+
+    public int attack(int team, int cell) {
+        return attack[team][cell];
+    }
+
+    public boolean isThreatened(int team, int cell) {
+        return (threatened[team] & Bitboard.bit(cell)) != 0;
+    }
+
+    public long threatenedCells(int team) {
+        return threatened[team];
+    }
+}
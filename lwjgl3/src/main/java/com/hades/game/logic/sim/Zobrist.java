@@ -0,0 +1,62 @@
+package com.hades.game.logic.sim;
+
+import com.hades.game.entities.Unit;
+
+// Chess Olympus: HADES vs ZEUS - 전투 국면 Zobrist 해시 키
+// 키는 유닛 인덱스가 아니라 (진영, 병과, 칸) 기준으로 만들어집니다.
+// 같은 진영·병과의 병사는 스탯이 같으므로, 전사자가 목록에서 빠져 인덱스가 바뀌어도 같은 국면은 같은 해시를 갖습니다.
+// 시드가 고정되어 있어 실행할 때마다 같은 키가 나오므로 해시를 파일에 저장해도 됩니다.
+public final class Zobrist {
+    // 체력 구간의 폭. 1이면 체력이 정확히 같아야 같은 국면으로 취급합니다.
+    public static final int HP_BUCKET_SIZE = 1;
+
+    private static final int CLASSES = Unit.UnitClass.values().length;
+    private static final long[] PIECE = new long[2 * CLASSES * Bitboard.CELLS];
+    private static final long[] SKILL_USED = new long[Bitboard.CELLS];
+    private static final long[] SKILL_RESERVED = new long[Bitboard.CELLS];
+    private static final long SIDE_ZEUS;
+    private static final long HP_SEED;
+
+    static {
+        long seed = 0x48414445535A4555L; // "HADESZEU"
+        for (int i = 0; i < PIECE.length; i++) PIECE[i] = seed = next(seed);
+        for (int i = 0; i < Bitboard.CELLS; i++) SKILL_USED[i] = seed = next(seed);
+        for (int i = 0; i < Bitboard.CELLS; i++) SKILL_RESERVED[i] = seed = next(seed);
+        SIDE_ZEUS = seed = next(seed);
+        HP_SEED = next(seed);
+    }
+
+    private Zobrist() { }
+
+    // splitmix64: 고정 시드에서 고르게 퍼진 64비트 값을 만듭니다.
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long next(long seed) {
+        return mix(seed + 0x9E3779B97F4A7C15L);
+    }
+
+    public static long piece(int team, int classOrdinal, int cell) {
+        return PIECE[(team * CLASSES + classOrdinal) * Bitboard.CELLS + cell];
+    }
+
+    // 체력 범위가 넓어(수천) 표 대신 칸과 체력 구간을 섞어 키를 계산합니다.
+    public static long hp(int cell, int hp) {
+        return mix(HP_SEED ^ ((long) cell << 32 | (hp / HP_BUCKET_SIZE)));
+    }
+
+    public static long skillUsed(int cell) {
+        return SKILL_USED[cell];
+    }
+
+    public static long skillReserved(int cell) {
+        return SKILL_RESERVED[cell];
+    }
+
+    public static long side(int team) {
+        return team == BattleRoster.TEAM_ZEUS ? SIDE_ZEUS : 0L;
+    }
+}
@@ -1,6 +1,7 @@
 package com.hades.game.screens;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
@@ -19,12 +20,14 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.hades.game.HadesGame;
 import com.hades.game.constants.GameConfig;
 import com.hades.game.constants.SkillData;
+import com.hades.game.constants.Team;
 import com.hades.game.constants.UnitData;
 import com.hades.game.entities.Unit;
 import com.hades.game.logic.*;
 import com.hades.game.view.GameUI;
 import com.hades.game.view.MapRenderer;
 import com.hades.game.view.UnitRenderer;
+import com.hades.game.view.UnitTextures;
 import com.hades.game.view.UI;
 
 // Chess Olympus: HADES vs ZEUS - 메인 전투 화면
@@ -41,6 +44,7 @@ public class BattleScreen extends ScreenAdapter {
     private MapRenderer mapRenderer;
     private UnitRenderer unitRenderer;
     private GameUI gameUI;
+    private UnitTextures unitTextures; // 유닛 텍스처는 화면이 소유하고, 유닛 데이터는 그래픽과 분리됩니다.
     private boolean showHelp = false;
 
     private Texture battleBg;
@@ -52,11 +56,21 @@ public class BattleScreen extends ScreenAdapter {
     private final UnitData.Stat heroStat;
     private final int stageLevel;
 
-    private float aiDelay = 0;
-    private boolean aiBusy = false;
+    private AILogic ai; // 이 전투의 적 AI (탐색 엔진과 버퍼를 전투마다 따로 가집니다)
+    private AIWorker aiWorker; // AI 턴은 작업 스레드에서 계산하고, 렌더 루프는 결과만 확인합니다.
+    private final TurnHistory turnHistory = new TurnHistory(); // Ctrl + Z 되돌리기용 턴 기록
+    private final OccupancyGrid occupancy = new OccupancyGrid(); // 칸 -> 유닛 (이동 가능 칸 표시 / 칸 조회를 O(1) 로)
     private boolean gameOver = false;
     private float stageTime = 0; // 추가: 플레이 타임 측정
 
+    private static final int PARALLEL_AI_STAGE = 5;
+    // 스테이지별 AI 탐색 방식 (1~7 스테이지). 아테나와 아프로디테는 MCTS 로 수읽기 성향을 달리합니다.
+    private static final AILogic.SearchMode[] AI_MODE_BY_STAGE = {
+        AILogic.SearchMode.ALPHA_BETA, AILogic.SearchMode.ALPHA_BETA, AILogic.SearchMode.MCTS,
+        AILogic.SearchMode.ALPHA_BETA, AILogic.SearchMode.ALPHA_BETA, AILogic.SearchMode.MCTS,
+        AILogic.SearchMode.ALPHA_BETA
+    };
+
     private final float MENU_W = 180;
     private final float MENU_H = 60;
     private final Rectangle menuHitbox;
@@ -67,7 +81,7 @@ public class BattleScreen extends ScreenAdapter {
         this.heroName = heroName;
         this.heroStat = heroStat;
         this.stageLevel = stageLevel;
-        this.aiTeam = playerTeam.equals("HADES") ? "ZEUS" : "HADES";
+        this.aiTeam = Team.of(playerTeam).opponent().name();
 
         this.stage = new Stage(new FitViewport(GameConfig.VIRTUAL_WIDTH, GameConfig.VIRTUAL_HEIGHT));
         this.menuHitbox = new Rectangle(
@@ -109,8 +123,9 @@ public class BattleScreen extends ScreenAdapter {
     private void init() {
         shape = new ShapeRenderer();
         mapRenderer = new MapRenderer(shape, game.batch, tileTop);
-        unitRenderer = new UnitRenderer(game.batch, shape, game.battleFont, playerTeam);
-        gameUI = new GameUI(game);
+        unitTextures = new UnitTextures();
+        unitRenderer = new UnitRenderer(game.batch, shape, game.battleFont, playerTeam, unitTextures);
+        gameUI = new GameUI(game, unitTextures);
         cameraManager = new CameraManager((OrthographicCamera) stage.getCamera());
 
         if (heroStat != null) {
@@ -118,10 +133,21 @@ public class BattleScreen extends ScreenAdapter {
             heroStat.clearReservedSkill();
         }
 
+        // 5스테이지(헤라)부터는 보스가 모든 코어를 사용해 같은 시간에 더 깊이 탐색합니다.
+        ai = new AILogic();
+        ai.setSearchThreads(stageLevel >= PARALLEL_AI_STAGE ? Runtime.getRuntime().availableProcessors() : 1);
+        ai.setDifficulty(game.runState.difficulty);
+        ai.setWeights(game.aiWeights);
+        ai.setOpeningBook(game.openingBook);
+        ai.getTelemetry().setLogFile(Gdx.files.local("logs/ai_telemetry.log").file().toPath());
+        ai.setTablebaseDir(Gdx.files.local("tb").file().toPath());
+        ai.setSearchMode(AI_MODE_BY_STAGE[Math.max(0, Math.min(stageLevel, AI_MODE_BY_STAGE.length) - 1)]);
+
         turnManager = new TurnManager();
         turnManager.setBattleScreen(this);
         combatManager = new CombatManager(gameUI, turnManager, playerTeam, this::handleDeath);
         units = StageGenerator.create(stageLevel, playerTeam, heroName, heroStat);
+        occupancy.attach(units);
     }
 
     @Override
@@ -177,6 +203,7 @@ public class BattleScreen extends ScreenAdapter {
         }
 
         gameUI.render(stageLevel, turnManager.getCurrentTurn(), playerTeam, menuHitbox, selectedUnit, mx, my, showHelp, stageTime);
+        com.hades.game.utils.DebugManager.drawAITelemetry(game, ai.getTelemetry());
         game.batch.end();
 
         if (gameOver) {
@@ -188,26 +215,26 @@ public class BattleScreen extends ScreenAdapter {
 
     private void update(float delta) {
         if (gameOver) return;
+        com.hades.game.utils.DebugManager.handleOverlayToggle();
+
+        boolean isControlPressed = Gdx.input.isKeyPressed(Input.Keys.CONTROL_LEFT) || Gdx.input.isKeyPressed(Input.Keys.CONTROL_RIGHT);
+        if (isControlPressed && Gdx.input.isKeyJustPressed(Input.Keys.Z)) {
+            undoLastTurn();
+            return;
+        }
 
+        if (aiWorker == null) aiWorker = new AIWorker(ai);
         if (turnManager.getCurrentTurn().equals(playerTeam)) {
-            aiBusy = false;
-            aiDelay = 0;
+            // 플레이어가 고민하는 동안 AI 는 예상 응수에 대한 답을 미리 찾아 둡니다.
+            aiWorker.startPondering(units, aiTeam);
             handleInput();
         } else {
-            aiDelay += delta;
-            if (aiDelay >= 1.0f) {
-                if (aiBusy) {
-                    try {
-                        AILogic.processAITurn(units, aiTeam, turnManager, this);
-                    } catch (Exception e) {
-                        if (!gameOver) turnManager.endTurn();
-                    }
-                    aiBusy = false;
-                    aiDelay = 0;
-                    selectedUnit = null;
-                } else {
-                    aiBusy = true;
-                }
+            // 탐색은 작업 스레드에서 진행되고, 여기서는 완료 여부와 최소 생각 시간만 확인합니다.
+            if (!aiWorker.isThinking()) {
+                aiWorker.start(units, aiTeam);
+            } else if (aiWorker.poll(delta)) {
+                ai.applyTurn(aiWorker.takeResult(), units, turnManager, this);
+                selectedUnit = null;
             }
         }
     }
@@ -252,7 +279,7 @@ public class BattleScreen extends ScreenAdapter {
             }
         }
 
-        if (!turnManager.getCurrentTurn().equals(playerTeam) || aiBusy) return;
+        if (!turnManager.getCurrentTurn().equals(playerTeam)) return;
         hoveredGrid = IsoUtils.screenToGrid(mx, my);
 
         if (Gdx.input.justTouched()) {
@@ -260,10 +287,11 @@ public class BattleScreen extends ScreenAdapter {
                 int tx = (int) hoveredGrid.x;
                 int ty = (int) hoveredGrid.y;
                 if (tx >= 0 && ty >= 0 && selectedUnit.team.equals(playerTeam) && BoardManager.canMoveTo(selectedUnit, tx, ty, units)) {
+                    turnHistory.record(units, turnManager);
+                    if (aiWorker != null) aiWorker.stopPondering();
                     selectedUnit.setPosition(tx, ty);
                     processMoveEnd(selectedUnit);
                     selectedUnit = null;
-                    aiBusy = true;
                     turnManager.endTurn();
                     return;
                 }
@@ -281,10 +309,23 @@ public class BattleScreen extends ScreenAdapter {
         }
     }
 
+    /**
+     * [메서드 설명] 플레이어의 직전 수와 그에 이어진 AI 응수를 취소하고 플레이어 차례로 돌아갑니다.
+     * AI 가 생각 중이면 탐색을 멈추고 결과를 버립니다.
+     */
+    public void undoLastTurn() {
+        if (gameOver || !turnHistory.canUndo()) return;
+        if (aiWorker != null) aiWorker.cancel();
+        turnHistory.undo(units, turnManager);
+        selectedUnit = null;
+        game.playClick();
+        gameUI.addLog("직전 턴을 되돌렸습니다.", playerTeam, playerTeam);
+    }
+
     public void processMoveEnd(Unit unit) {
         if (gameOver) return;
         String reserved = unit.stat.getReservedSkill();
-        if (reserved != null && !reserved.equals("기본 공격")) {
+        if (reserved != null && !reserved.equals(SkillData.BASIC_ATTACK)) {
             executeHeroSkill(unit, reserved);
         }
         combatManager.processAutoAttack(units, unit.team);
@@ -292,13 +333,13 @@ public class BattleScreen extends ScreenAdapter {
 
     private void executeHeroSkill(Unit hero, String skillName) {
         hero.say(skillName + "!!");
-        SkillManager.executeSkill(hero, skillName, units, gameUI, playerTeam, this);
+        SkillManager.executeSkill(hero, SkillData.idOf(skillName), units, gameUI, playerTeam, this::handleDeath);
         hero.stat.clearReservedSkill();
     }
 
     public void handleDeath(Unit target) {
         if (gameOver) return;
-        target.status = Unit.DEAD;
+        target.markDead();
 
         boolean isEnemyBoss = target.team.equals(aiTeam) && target.unitClass == Unit.UnitClass.HERO;
         boolean isPlayerHero = target.team.equals(playerTeam) && target.unitClass == Unit.UnitClass.HERO;
@@ -306,6 +347,7 @@ public class BattleScreen extends ScreenAdapter {
         if (isEnemyBoss || isPlayerHero) {
             game.audioManager.stopBgm();
             gameOver = true;
+            if (aiWorker != null) aiWorker.cancel();
             if (isEnemyBoss) {
                 game.runState.stageBestTimes.put(stageLevel, stageTime);
                 if (stageLevel == 7) {
@@ -398,7 +440,7 @@ public class BattleScreen extends ScreenAdapter {
     private void cleanupDeadUnits() {
         if (gameOver) return;
         for (int i = units.size - 1; i >= 0; i--) {
-            if (units.get(i).status == Unit.DEAD) {
+            if (units.get(i).status() == Unit.DEAD) {
                 if (selectedUnit == units.get(i)) selectedUnit = null;
                 units.removeIndex(i);
             }
@@ -439,13 +481,26 @@ public class BattleScreen extends ScreenAdapter {
         stage.getViewport().update(w, h, true);
     }
 
+    @Override
+    public void hide() {
+        // 화면을 떠나면 진행 중인 AI 탐색과 작업 스레드를 정리합니다.
+        if (aiWorker != null) {
+            aiWorker.dispose();
+            aiWorker = null;
+        }
+        if (ai != null) ai.dispose();
+    }
+
     @Override
     public void dispose() {
+        if (aiWorker != null) aiWorker.dispose();
+        if (ai != null) ai.dispose();
         if (shape != null) shape.dispose();
         if (unitRenderer != null) unitRenderer.dispose();
         if (stage != null) stage.dispose();
         if (gameUI != null) gameUI.dispose();
         if (battleBg != null) battleBg.dispose();
         if (tileTop != null) tileTop.dispose();
+        if (unitTextures != null) unitTextures.dispose();
     }
 }
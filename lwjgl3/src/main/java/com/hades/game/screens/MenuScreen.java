@@ -15,6 +15,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.hades.game.HadesGame;
+import com.hades.game.constants.Difficulty;
 import com.hades.game.constants.GameConfig;
 import com.hades.game.screens.cutscene.BaseCutsceneScreen;
 import com.hades.game.screens.cutscene.CutsceneManager;
@@ -29,6 +30,8 @@ public class MenuScreen extends ScreenAdapter {
     private Label volStatusLabel;
     private Label screenBtn;
     private int volumeStep;
+    private Label difficultyLabel;
+    private Difficulty difficulty;
 
     private final Color COLOR_GOLD = Color.valueOf("D4AF37");
     private final Color COLOR_MAIN = Color.valueOf("E0E0E0");
@@ -38,6 +41,7 @@ public class MenuScreen extends ScreenAdapter {
     public MenuScreen(HadesGame game) {
         this.game = game;
         this.volumeStep = (int)(game.globalVolume * 10);
+        this.difficulty = game.runState.difficulty != null ? game.runState.difficulty : Difficulty.NORMAL;
         this.stage = new Stage(new FitViewport(GameConfig.VIRTUAL_WIDTH, GameConfig.VIRTUAL_HEIGHT));
         this.backgroundTexture = new Texture(Gdx.files.internal("images/background/main.png"));
 
@@ -75,6 +79,7 @@ public class MenuScreen extends ScreenAdapter {
                 public void clicked(InputEvent event, float x, float y) {
                     game.playClick();
                     game.loadGame();
+                    game.runState.difficulty = difficulty; // 메뉴에서 고른 난이도를 이어서 하는 회차에도 적용합니다.
                     game.setScreen(new StageMapScreen(game));
                 }
             });
@@ -125,6 +130,36 @@ public class MenuScreen extends ScreenAdapter {
         volumeRow.add(volUp).padLeft(15);
         menuGroup.add(volumeRow).padBottom(20).row();
 
+        // --- AI 난이도 ---
+        Table difficultyRow = new Table();
+        difficultyLabel = new Label(difficulty.label, new Label.LabelStyle(game.detailFont, COLOR_POINT));
+        Label diffDown = new Label(" < ", new Label.LabelStyle(game.detailFont, COLOR_MAIN));
+        Label diffUp = new Label(" > ", new Label.LabelStyle(game.detailFont, COLOR_MAIN));
+
+        UI.addHoverEffect(game, diffDown, COLOR_MAIN, COLOR_GOLD);
+        UI.addHoverEffect(game, diffUp, COLOR_MAIN, COLOR_GOLD);
+
+        diffUp.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                setDifficulty(difficulty.next());
+                game.playClick(1.2f);
+            }
+        });
+        diffDown.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                setDifficulty(difficulty.previous());
+                game.playClick(0.8f);
+            }
+        });
+
+        difficultyRow.add(new Label("AI", new Label.LabelStyle(game.detailFont, COLOR_MAIN))).padRight(20);
+        difficultyRow.add(diffDown).padRight(15);
+        difficultyRow.add(difficultyLabel).width(160).align(Align.center);
+        difficultyRow.add(diffUp).padLeft(15);
+        menuGroup.add(difficultyRow).padBottom(20).row();
+
         // --- 화면 모드 ---
         screenBtn = new Label(Gdx.graphics.isFullscreen() ? "WINDOW" : "FULLSCREEN", new Label.LabelStyle(game.detailFont, COLOR_POINT));
         UI.addHoverEffect(game, screenBtn, COLOR_POINT, COLOR_MAIN);
@@ -238,6 +273,13 @@ public class MenuScreen extends ScreenAdapter {
         }
     }
 
+    // 난이도는 RunState 에 바로 반영되어, 새 여정을 시작하거나 저장할 때 함께 기록됩니다.
+    private void setDifficulty(Difficulty value) {
+        difficulty = value;
+        game.runState.difficulty = value;
+        difficultyLabel.setText(value.label);
+    }
+
     private void syncVolume() {
         game.updateVolume(volumeStep / 10f);
         volStatusLabel.setText((volumeStep * 10) + "%");
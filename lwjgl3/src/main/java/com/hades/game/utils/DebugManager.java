@@ -8,9 +8,41 @@ import com.hades.game.screens.BattleScreen;
 import com.hades.game.entities.Unit;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.hades.game.constants.UnitData;
+import com.hades.game.constants.GameConfig;
+import com.hades.game.logic.ai.AITelemetry;
+import com.badlogic.gdx.graphics.Color;
 
 // Chess Olympus: HADES vs ZEUS - 전투 치트 관리 (조합 단축키 시스템)
 public class DebugManager {
+    private static boolean showAITelemetry = false;
+
+    // [오버레이] F3 : AI 텔레메트리 표시 토글 (치트가 아니므로 배포 빌드에서도 동작합니다)
+    public static void handleOverlayToggle() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            showAITelemetry = !showAITelemetry;
+        }
+    }
+
+    /**
+     * [메서드 설명] 최근 AI 턴의 계산 비용(시간 / 노드 / 깊이 / 전치표 적중률 / 고른 수)을 화면 왼쪽에 그립니다.
+     * batch.begin() 과 end() 사이에서 호출합니다.
+     */
+    public static void drawAITelemetry(HadesGame game, AITelemetry telemetry) {
+        if (!showAITelemetry || telemetry == null) return;
+        float x = 20;
+        float y = GameConfig.VIRTUAL_HEIGHT - 150;
+        float lineH = 22;
+
+        game.unitFont3.setColor(Color.GOLD);
+        game.unitFont3.draw(game.batch, "[F3] " + telemetry.summary(), x, y);
+        AITelemetry.Entry[] entries = telemetry.getRecent();
+        for (int i = 0; i < entries.length; i++) {
+            AITelemetry.Entry e = entries[i];
+            game.unitFont3.setColor(i == 0 ? Color.WHITE : Color.LIGHT_GRAY);
+            game.unitFont3.draw(game.batch, e.toOverlayLine(), x, y - lineH * (i + 1));
+        }
+        game.unitFont3.setColor(Color.WHITE);
+    }
 
     public static void handleBattleDebug(HadesGame game, Array<Unit> units, String aiTeam, java.util.function.Consumer<Unit> deathHandler) {
 
@@ -24,7 +56,7 @@ public class DebugManager {
             for (int i = 0; i < units.size; i++) {
                 Unit u = units.get(i);
                 if (u != null && u.isAlive() && u.team.equals(aiTeam) && u.unitClass == Unit.UnitClass.HERO) {
-                    u.currentHp = 0;
+                    u.setHp(0);
                     deathHandler.accept(u);
                     break;
                 }
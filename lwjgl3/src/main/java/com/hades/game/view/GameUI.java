@@ -14,11 +14,13 @@ import com.hades.game.HadesGame;
 import com.hades.game.constants.GameConfig;
 import com.hades.game.constants.SkillData;
 import com.hades.game.entities.Unit;
+import com.hades.game.logic.BattleLog;
 
 // Chess Olympus: HADES vs ZEUS - 전투 화면 UI 렌더링 클래스
 // 로그 시스템, 유닛 정보, 스킬 버튼 및 도움말 창을 관리합니다.
-public class GameUI implements Disposable {
+public class GameUI implements Disposable, BattleLog {
     private final HadesGame game;
+    private final UnitTextures unitTextures;
 
     // 리소스 관련 변수
     private Texture logInfoBgTex;
@@ -71,8 +73,9 @@ public class GameUI implements Disposable {
     private final float SKILL_Y = 500;
     private final float SKILL_H = 50;
 
-    public GameUI(HadesGame game) {
+    public GameUI(HadesGame game, UnitTextures unitTextures) {
         this.game = game;
+        this.unitTextures = unitTextures;
         loadResources();
     }
 
@@ -85,6 +88,7 @@ public class GameUI implements Disposable {
     }
 
     // 전투 로그 추가 메서드 - 상대방의 공격 피해만 빨간색으로 처리
+    @Override
     public void addLog(String message, String unitTeam, String playerTeam) {
         Color logColor = Color.LIGHT_GRAY; // 기본 색상
 
@@ -277,6 +281,7 @@ public class GameUI implements Disposable {
             "[ 이동 및 공격 ]\n" +
             "- 좌클릭으로 아군 선택 후 이동할 타일 클릭\n" +
             "- 이동 후 자동 공격으로 턴 종료\n" +
+            "- Ctrl + Z: 직전 턴 되돌리기 (AI 응수까지 취소)\n" +
             "- 자동 공격은 사거리 내 가장 체력이 낮은 유닛을 우선 공격\n\n" +
             "[ 권능 사용 ]\n" +
             "- 스킬 클릭하여 '장전' 후 이동하면 자동 사용\n\n" +
@@ -309,9 +314,9 @@ public class GameUI implements Disposable {
     }
 
     private void renderUnitDetails(Unit unit) {
-        if (unit.portrait != null) game.batch.draw(unit.portrait, 10, 20, 300, 420);
+        game.batch.draw(unitTextures.portraitOf(unit), 10, 20, 300, 420);
         game.cardFont.setColor(Color.WHITE);
-        game.cardFont.draw(game.batch, "HP : " + unit.currentHp + " / " + unit.stat.hp(), 55, 145);
+        game.cardFont.draw(game.batch, "HP : " + unit.currentHp() + " / " + unit.stat.hp(), 55, 145);
         game.cardFont.draw(game.batch, "ATK: " + unit.stat.atk(), 55, 125);
         game.cardFont.draw(game.batch, "CTK: " + unit.stat.counterAtk(), 55, 105);
         game.cardFont.setColor(Color.SKY);
@@ -12,6 +12,7 @@ import com.hades.game.constants.GameConfig;
 import com.hades.game.entities.Unit;
 import com.hades.game.logic.BoardManager;
 import com.hades.game.logic.IsoUtils;
+import com.hades.game.logic.sim.Bitboard;
 
 // 입체적인 유적 타일 및 범위 가이드 렌더링 담당
 public class MapRenderer {
@@ -33,6 +34,8 @@ public class MapRenderer {
         batch.begin();
         float drawW = GameConfig.TILE_WIDTH - TILE_PADDING;
         float drawH = GameConfig.TILE_HEIGHT - (TILE_PADDING / 2f);
+        // 이동 가능 칸은 프레임마다 한 번만 구해 두고 타일마다 비트로 확인합니다.
+        long reachable = selectedUnit != null ? BoardManager.moveMask(selectedUnit, units) : 0L;
 
         for (int y = 0; y < GameConfig.BOARD_HEIGHT; y++) {
             for (int x = 0; x < GameConfig.BOARD_WIDTH; x++) {
@@ -49,7 +52,7 @@ public class MapRenderer {
                 Color tileColor = new Color(0.9f, 0.9f, 0.9f, 1f);
 
                 // 이동 가능 범위 표시
-                if (selectedUnit != null && BoardManager.canMoveTo(selectedUnit, x, y, units)) {
+                if ((reachable & Bitboard.bit(x, y)) != 0) {
                     tileColor = new Color(0.2f, 0.5f, 0.7f, 0.6f);
                 }
 
@@ -75,11 +78,11 @@ public class MapRenderer {
 
         for (int x = 0; x < GameConfig.BOARD_WIDTH; x++) {
             for (int y = 0; y < GameConfig.BOARD_HEIGHT; y++) {
-                if (x == unit.gridX && y == unit.gridY) continue;
+                if (x == unit.gridX() && y == unit.gridY()) continue;
 
                 Vector2 pos = IsoUtils.gridToScreen(x, y);
-                int dx = Math.abs(unit.gridX - x);
-                int dy = Math.abs(unit.gridY - y);
+                int dx = Math.abs(unit.gridX() - x);
+                int dy = Math.abs(unit.gridY() - y);
                 int dist = dx + dy;
 
                 boolean canAttackTile = false;
@@ -118,7 +121,7 @@ public class MapRenderer {
 
         for (int x = 0; x < GameConfig.BOARD_WIDTH; x++) {
             for (int y = 0; y < GameConfig.BOARD_HEIGHT; y++) {
-                int dist = Math.abs(unit.gridX - x) + Math.abs(unit.gridY - y);
+                int dist = Math.abs(unit.gridX() - x) + Math.abs(unit.gridY() - y);
 
                 // 유닛 자신을 제외한 사거리 내 타일들에 가이드 출력
                 if (dist > 0 && dist <= skillRange) {
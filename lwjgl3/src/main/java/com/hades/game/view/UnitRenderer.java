@@ -21,21 +21,23 @@ public class UnitRenderer {
     private BitmapFont font;
     private String playerTeam;
     private GlyphLayout layout;
+    private final UnitTextures textures;
 
     private static final float HITBOX_W = 30f;
     private static final float HITBOX_H = 50f;
 
-    public UnitRenderer(SpriteBatch batch, ShapeRenderer shape, BitmapFont unitFont, String playerTeam) {
+    public UnitRenderer(SpriteBatch batch, ShapeRenderer shape, BitmapFont unitFont, String playerTeam, UnitTextures textures) {
         this.batch = batch;
         this.shape = shape;
         this.font = unitFont;
         this.playerTeam = playerTeam;
         this.layout = new GlyphLayout();
+        this.textures = textures;
     }
 
     // 유닛의 발밑 그림자와 선택 링을 렌더링합니다.
     public void renderShadow(Unit unit, Unit selectedUnit) {
-        Vector2 screenPos = IsoUtils.gridToScreen(unit.gridX, unit.gridY);
+        Vector2 screenPos = IsoUtils.gridToScreen(unit.gridX(), unit.gridY());
         boolean isSelected = (unit == selectedUnit);
 
         drawShadow(screenPos);
@@ -47,13 +49,13 @@ public class UnitRenderer {
 
     // 유닛의 본체, 애니메이션, 상태 UI, 데미지 팝업을 순서대로 렌더링합니다.
     public void renderBody(Unit unit, Unit selectedUnit) {
-        Vector2 screenPos = IsoUtils.gridToScreen(unit.gridX, unit.gridY);
+        Vector2 screenPos = IsoUtils.gridToScreen(unit.gridX(), unit.gridY());
 
         // 공격 애니메이션 등으로 발생하는 위치 오프셋을 적용합니다.
         float drawX = screenPos.x + unit.animOffset.x;
         float drawY = screenPos.y + unit.animOffset.y;
 
-        Texture currentTexture = unit.fieldTexture;
+        Texture currentTexture = textures.fieldTextureOf(unit);
         boolean isSelected = (unit == selectedUnit);
 
         // --- [하이라이트 대상 판단 및 목표 투명도 설정] ---
@@ -61,7 +63,7 @@ public class UnitRenderer {
             unit.targetAlpha = 1.0f; // 선택된 유닛이 없으면 모두 선명하게
         } else {
             // 선택된 유닛이 있을 때, 같은 팀이면서 본인이 아니면 투명하게(0.4f) 만듭니다.
-            if (unit.team.equals(selectedUnit.team) && unit != selectedUnit) {
+            if (unit.side == selectedUnit.side && unit != selectedUnit) {
                 unit.targetAlpha = 0.4f;
             } else {
                 unit.targetAlpha = 1.0f; // 본인이거나 적군은 선명하게 유지
@@ -89,7 +91,7 @@ public class UnitRenderer {
     // rederBody 메서드가 몸통을 그린뒤 스킬 말풍선이 출력되도록 해야 보임
     public void renderSpeechBubble(Unit unit) {
         if (unit.speechText != null && unit.speechTimer > 0) {
-            Vector2 screenPos = IsoUtils.gridToScreen(unit.gridX, unit.gridY);
+            Vector2 screenPos = IsoUtils.gridToScreen(unit.gridX(), unit.gridY());
             // 애니메이션 오프셋까지 적용된 위치에 말풍선 렌더링
             drawSpeechBubble(unit, screenPos.x + unit.animOffset.x, screenPos.y + unit.animOffset.y);
         }
@@ -152,7 +154,7 @@ public class UnitRenderer {
     }
 
     public boolean isMouseInsideHitbox(Unit unit, float mx, float my) {
-        Vector2 pos = IsoUtils.gridToScreen(unit.gridX, unit.gridY);
+        Vector2 pos = IsoUtils.gridToScreen(unit.gridX(), unit.gridY());
         return mx >= pos.x - (HITBOX_W / 2) && mx <= pos.x + (HITBOX_W / 2) &&
             my >= pos.y && my <= pos.y + HITBOX_H;
     }
@@ -206,7 +208,7 @@ public class UnitRenderer {
         shape.setColor(0, 0, 0, alpha);
         shape.rect(x - (hpBarWidth / 2f), hpBarY, hpBarWidth, hpBarHeight);
 
-        float hpPercent = (float) unit.currentHp / unit.stat.hp();
+        float hpPercent = (float) unit.currentHp() / unit.stat.hp();
         if (hpPercent > 0) {
             // 잔량 바 투명도 적용
             shape.setColor(teamColor.r, teamColor.g, teamColor.b, alpha);
@@ -0,0 +1,59 @@
+package com.hades.game.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.hades.game.entities.Unit;
+
+// Chess Olympus: HADES vs ZEUS
+// 유닛 초상화/필드 이미지를 경로별로 한 번만 로드해 공유하는 텍스처 캐시입니다.
+// 같은 병과의 병사들은 같은 텍스처를 사용하고, 전투 화면이 닫힐 때 한꺼번에 해제됩니다.
+public class UnitTextures implements Disposable {
+    private static final String FALLBACK_PATH = "libgdx.png";
+
+    private final ObjectMap<String, Texture> cache = new ObjectMap<>();
+    private Texture fallback; // 이미지가 없는 경로들이 함께 가리키는 기본 이미지
+
+    public Texture portraitOf(Unit unit) {
+        return get(unit.portraitPath());
+    }
+
+    public Texture fieldTextureOf(Unit unit) {
+        return get(unit.fieldTexturePath());
+    }
+
+    private Texture get(String path) {
+        Texture tex = cache.get(path);
+        if (tex == null) {
+            tex = loadSafeTexture(path);
+            cache.put(path, tex);
+        }
+        return tex;
+    }
+
+    // 파일이 없거나 로드에 실패하면 기본 이미지로 대체합니다.
+    private Texture loadSafeTexture(String path) {
+        try {
+            if (Gdx.files.internal(path).exists()) {
+                Texture tex = new Texture(Gdx.files.internal(path));
+                tex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                return tex;
+            }
+        } catch (Exception e) {
+            System.err.println("[UnitTextures] 로드 실패: " + path);
+        }
+        if (fallback == null) fallback = new Texture(Gdx.files.internal(FALLBACK_PATH));
+        return fallback;
+    }
+
+    @Override
+    public void dispose() {
+        for (Texture tex : cache.values()) {
+            if (tex != fallback) tex.dispose();
+        }
+        cache.clear();
+        if (fallback != null) fallback.dispose();
+        fallback = null;
+    }
+}